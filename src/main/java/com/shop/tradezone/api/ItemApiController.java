@@ -2,11 +2,20 @@ package com.shop.tradezone.api;
 
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.shop.tradezone.constant.ItemSellStatus;
+import com.shop.tradezone.dto.CursorSliceDto;
 import com.shop.tradezone.dto.ItemCardDto;
+import com.shop.tradezone.dto.ItemSearchCondition;
+import com.shop.tradezone.service.ItemSearchService;
 import com.shop.tradezone.service.ItemService;
 
 import lombok.RequiredArgsConstructor;
@@ -17,9 +26,50 @@ import lombok.RequiredArgsConstructor;
 public class ItemApiController {
 
 	private final ItemService itemService;
+	private final ItemSearchService itemSearchService;
 
 	@GetMapping("/main")
 	public List<ItemCardDto> getMainItems() {
-		return itemService.getMainItems(0, 12).getContent();
+		return itemService.getMainItems(null, 12).content();
+	}
+
+	// 무한 스크롤용 커서 페이징 (nextCursor 를 다음 요청의 cursor 로 그대로 전달)
+	@GetMapping("/feed")
+	public CursorSliceDto<ItemCardDto> getFeed(@RequestParam(name = "cursor", required = false) String cursor,
+			@RequestParam(name = "size", defaultValue = "12") int size) {
+		return itemService.getMainItems(cursor, Math.min(size, 100));
+	}
+
+	@GetMapping("/category/{childId}")
+	public CursorSliceDto<ItemCardDto> getCategoryFeed(@PathVariable("childId") Long childId,
+			@RequestParam(name = "cursor", required = false) String cursor,
+			@RequestParam(name = "size", defaultValue = "12") int size) {
+		return itemService.getItemsByCategory(childId, cursor, Math.min(size, 100));
+	}
+
+	@GetMapping("/seller/{memberId}")
+	public CursorSliceDto<ItemCardDto> getSellerFeed(@PathVariable("memberId") Long memberId,
+			@RequestParam(name = "cursor", required = false) String cursor,
+			@RequestParam(name = "size", defaultValue = "12") int size) {
+		return itemService.getItemsByMember(memberId, cursor, Math.min(size, 100));
+	}
+
+	// 가격대/가격순 목록 (?status=SELL&minPrice=&maxPrice=&sort=priceAsc|priceDesc)
+	@GetMapping
+	public Page<ItemCardDto> getItems(@RequestParam(name = "status", defaultValue = "SELL") ItemSellStatus status,
+			@RequestParam(name = "minPrice", required = false) Long minPrice,
+			@RequestParam(name = "maxPrice", required = false) Long maxPrice,
+			@RequestParam(name = "sort", required = false) String sort,
+			@RequestParam(name = "page", defaultValue = "0") int page,
+			@RequestParam(name = "size", defaultValue = "20") int size) {
+		return itemService.getItemsByPrice(status, minPrice, maxPrice, sort, page, Math.min(size, 100));
+	}
+
+	// 상품 검색 (?q=&parentCategoryId=&categoryId=&status=&minPrice=&maxPrice=)
+	@GetMapping("/search")
+	public Page<ItemCardDto> search(@ModelAttribute ItemSearchCondition cond,
+			@RequestParam(name = "page", defaultValue = "0") int page,
+			@RequestParam(name = "size", defaultValue = "20") int size) {
+		return itemSearchService.search(cond, PageRequest.of(page, Math.min(size, 100)));
 	}
 }
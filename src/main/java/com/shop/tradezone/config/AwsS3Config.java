@@ -1,17 +1,35 @@
 package com.shop.tradezone.config;
 
+import java.net.URI;
+
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
 
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
 
+/**
+ * S3 클라이언트 - 업로드는 S3AsyncClient (스레드를 붙잡지 않음, threshold 이상은 멀티파트로 나눠 병렬 전송) - 동시 요청 수는
+ * 연결 풀(max-concurrency)로 제한, 넘치면 SDK 안에서 대기 - aws.s3.endpoint 를 주면 MinIO/LocalStack 같은 로컬 S3 호환
+ * 서버로 (path-style) - tradezone.storage.type=local 이면 만들지 않음 (LocalImageStorage)
+ */
 @Configuration
+@ConditionalOnProperty(name = "tradezone.storage.type", havingValue = "s3", matchIfMissing = true)
 public class AwsS3Config {
 
+	private static final long MB = 1024L * 1024L;
+
 	@Value("${aws.access-key}")
 	private String accessKey;
 
@@ -21,10 +39,42 @@ public class AwsS3Config {
 	@Value("${aws.region}")
 	private String region;
 
+	@Value("${aws.s3.endpoint:}")
+	private String endpoint;
+
+	@Value("${tradezone.s3.max-concurrency:32}")
+	private int maxConcurrency;
+
+	@Value("${tradezone.s3.multipart-threshold-mb:8}")
+	private long multipartThresholdMb;
+
+	@Value("${tradezone.s3.part-size-mb:8}")
+	private long partSizeMb;
+
 	@Bean
 	public S3Client s3Client() {
-		AwsBasicCredentials awsBasicCredentials = AwsBasicCredentials.create(accessKey, secretKey);
-		return S3Client.builder().credentialsProvider(StaticCredentialsProvider.create(awsBasicCredentials))
-				.region(Region.of(region)).build();
+		S3ClientBuilder builder = S3Client.builder().credentialsProvider(credentials()).region(Region.of(region));
+		if (StringUtils.hasText(endpoint)) {
+			builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+		}
+		return builder.build();
+	}
+
+	@Bean
+	public S3AsyncClient s3AsyncClient() {
+		S3AsyncClientBuilder builder = S3AsyncClient.builder().credentialsProvider(credentials())
+				.region(Region.of(region))
+				.httpClientBuilder(NettyNioAsyncHttpClient.builder().maxConcurrency(maxConcurrency))
+				.multipartEnabled(true)
+				.multipartConfiguration(MultipartConfiguration.builder()
+						.thresholdInBytes(multipartThresholdMb * MB).minimumPartSizeInBytes(partSizeMb * MB).build());
+		if (StringUtils.hasText(endpoint)) {
+			builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+		}
+		return builder.build();
+	}
+
+	private AwsCredentialsProvider credentials() {
+		return StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
 	}
-}
\ No newline at end of file
+}
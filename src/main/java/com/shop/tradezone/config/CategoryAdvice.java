@@ -5,7 +5,7 @@ import java.util.List;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ModelAttribute;
 
-import com.shop.tradezone.entity.Category;
+import com.shop.tradezone.dto.CategoryDto;
 import com.shop.tradezone.service.CategoryService;
 
 import lombok.RequiredArgsConstructor;
@@ -17,7 +17,7 @@ public class CategoryAdvice {
 	private final CategoryService categoryService;
 
 	@ModelAttribute("categories")
-	public List<Category> categories() {
+	public List<CategoryDto> categories() {
 		return categoryService.findParentCategoriesWithChildren();
 	}
 
@@ -0,0 +1,37 @@
+package com.shop.tradezone.config;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.shop.tradezone.entity.ChatRoom;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅방 최신 메시지 컬럼 채우기 - 컬럼 추가 전에 만들어진 방은 last_message_id 가 비어 있으므로 메시지 테이블에서 한 번
+ * 채운다 - (room_id, id) 인덱스로 방별 max(id) 를 구하고, 이미 채워진 방은 건너뜀 - 전체 GROUP BY 라 SchemaMigrations
+ * 로 처음 기동 때 한 번만
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatRoomLastMessageMigration implements ApplicationRunner {
+
+	private final JdbcTemplate jdbcTemplate;
+	private final SchemaMigrations migrations;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		migrations.runOnce("chat_room.last_message", () -> jdbcTemplate.update("""
+				update chat_room r
+				  join (select room_id, max(id) as last_id from chat_message group by room_id) l
+				    on l.room_id = r.id
+				  join chat_message m
+				    on m.id = l.last_id
+				   set r.last_message_id = m.id,
+				       r.last_message_preview = left(m.content, ?)
+				 where r.last_message_id is null
+				""", ChatRoom.PREVIEW_LENGTH));
+	}
+}
@@ -0,0 +1,38 @@
+package com.shop.tradezone.config;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅방 읽음 위치 채우기 - 읽음이 메시지별 read_bya/read_byb 였던 때의 방은 last_read_id 가 0 이므로 한 번 채운다 - 참가자가
+ * 읽은(또는 보낸) 메시지 중 가장 큰 id 를 읽음 위치로 사용, 이미 채워진 방은 건너뜀 - 전체 GROUP BY 라 SchemaMigrations 로
+ * 처음 기동 때 한 번만
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatRoomReadMarkMigration implements ApplicationRunner {
+
+	private final JdbcTemplate jdbcTemplate;
+	private final SchemaMigrations migrations;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		migrations.runOnce("chat_room.read_mark", () -> jdbcTemplate.update("""
+				update chat_room r
+				  join (select room_id,
+				               coalesce(max(case when read_bya then id end), 0) as a_id,
+				               coalesce(max(case when read_byb then id end), 0) as b_id
+				          from chat_message
+				         group by room_id) m
+				    on m.room_id = r.id
+				   set r.last_read_ida = m.a_id,
+				       r.last_read_idb = m.b_id
+				 where r.last_read_ida = 0 and r.last_read_idb = 0
+				   and (m.a_id > 0 or m.b_id > 0)
+				"""));
+	}
+}
@@ -0,0 +1,31 @@
+package com.shop.tradezone.config;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 찜 수 컬럼 채우기 - 컬럼 추가 전의 찜은 item.like_count 에 반영되어 있지 않으므로 likes 테이블 기준으로 한 번 맞춘다 - 이후에는
+ * 토글 / 상품 찜 삭제 / 회원 탈퇴가 같은 트랜잭션에서 증감 - 전체 GROUP BY 라 SchemaMigrations 로 처음 기동 때 한 번만
+ */
+@Component
+@RequiredArgsConstructor
+public class ItemLikeCountMigration implements ApplicationRunner {
+
+	private final JdbcTemplate jdbcTemplate;
+	private final SchemaMigrations migrations;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		migrations.runOnce("item.like_count", () -> jdbcTemplate.update("""
+				update item i
+				  left join (select item_id, count(*) as cnt from likes group by item_id) l
+				    on l.item_id = i.item_id
+				   set i.like_count = coalesce(l.cnt, 0)
+				 where i.like_count <> coalesce(l.cnt, 0)
+				"""));
+	}
+}
@@ -0,0 +1,54 @@
+package com.shop.tradezone.config;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가격 컬럼 마이그레이션 - 예전 item.price(VARCHAR, "12,000" 형태) 값을 item.price_amount(BIGINT)로 옮긴다. -
+ * SchemaMigrations 로 처음 기동 때 한 번만 (price_amount 가 비어 있는 행만 채우므로 여러 번 돌아도 같은 결과) - 숫자로 해석할
+ * 수 없는 값은 건너뛰고 로그만 남긴다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemPriceMigration implements ApplicationRunner {
+
+	private final JdbcTemplate jdbcTemplate;
+	private final SchemaMigrations migrations;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		migrations.runOnce("item-price-amount", this::migrate);
+	}
+
+	private int migrate() {
+		Integer legacyColumn = jdbcTemplate.queryForObject("""
+				select count(*) from information_schema.columns
+				 where table_schema = database()
+				   and table_name = 'item'
+				   and column_name = 'price'
+				""", Integer.class);
+		if (legacyColumn == null || legacyColumn == 0) {
+			return 0; // 새로 만든 DB → 옮길 데이터 없음
+		}
+
+		int migrated = jdbcTemplate.update("""
+				update item
+				   set price_amount = cast(replace(price, ',', '') as unsigned)
+				 where price_amount is null
+				   and price regexp '^[0-9,]+$'
+				""");
+
+		Integer skipped = jdbcTemplate.queryForObject(
+				"select count(*) from item where price_amount is null and price is not null", Integer.class);
+		if (skipped != null && skipped > 0) {
+			log.warn("가격 마이그레이션 - 변환 불가 {}건", skipped);
+		}
+		return migrated;
+	}
+}
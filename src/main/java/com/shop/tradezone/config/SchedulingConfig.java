@@ -0,0 +1,43 @@
+package com.shop.tradezone.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 스케줄 작업(조회수/채팅/읽음 반영 등) 활성화 - TaskScheduler 빈이 여럿(소켓 하트비트, 브로커)이면 스케줄 작업은 이름이
+ * taskScheduler 인 빈을 쓰고, 없으면 스레드 1개짜리 로컬 스케줄러로 돌아가 모든 작업이 줄을 선다 → 크기를 정한 taskScheduler 를
+ * 직접 등록 - S3 를 오래 기다리는 저장소 정리(drain/sweep)는 storageScheduler 로 따로 (짧은 반영 작업을 막지 않게)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+	@Value("${tradezone.scheduling.threads:4}")
+	private int schedulingThreads;
+
+	@Value("${tradezone.storage.scheduler-threads:2}")
+	private int storageThreads;
+
+	@Bean
+	public ThreadPoolTaskScheduler taskScheduler() {
+		return scheduler("sched-", schedulingThreads);
+	}
+
+	@Bean
+	public ThreadPoolTaskScheduler storageScheduler() {
+		return scheduler("storage-gc-", storageThreads);
+	}
+
+	// 초기화/종료는 빈 생명주기로
+	private static ThreadPoolTaskScheduler scheduler(String prefix, int threads) {
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setPoolSize(threads);
+		scheduler.setThreadNamePrefix(prefix);
+		scheduler.setWaitForTasksToCompleteOnShutdown(true); // 종료 시 진행 중인 반영은 마치고
+		scheduler.setAwaitTerminationSeconds(10);
+		return scheduler;
+	}
+}
@@ -0,0 +1,33 @@
+package com.shop.tradezone.config;
+
+import java.util.function.IntSupplier;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 한 번만 도는 데이터 채우기 - schema_migration 에 id 가 있으면 건너뛰고, 성공하면 기록 → 다음 기동부터는 조회 1번 - 서버 여러
+ * 대가 동시에 기동하면 둘 다 돌 수 있으므로 채우기 쿼리는 여러 번 돌아도 같은 결과여야 한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchemaMigrations {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	// 처음이면 migration 실행 → 바뀐 행 수 로그
+	public void runOnce(String id, IntSupplier migration) {
+		Integer applied = jdbcTemplate.queryForObject("select count(*) from schema_migration where id = ?",
+				Integer.class, id);
+		if (applied != null && applied > 0) {
+			return;
+		}
+		int changed = migration.getAsInt();
+		jdbcTemplate.update("insert ignore into schema_migration (id, applied_at) values (?, now())", id);
+		log.info("데이터 채우기 완료 - {} ({}건)", id, changed);
+	}
+}
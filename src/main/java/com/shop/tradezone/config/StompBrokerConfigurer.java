@@ -0,0 +1,96 @@
+package com.shop.tradezone.config;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
+import org.springframework.messaging.simp.stomp.StompReactorNettyCodec;
+import org.springframework.messaging.tcp.reactor.ReactorNettyTcpClient;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * STOMP 브로커 선택 - simple(기본): 서버 메모리 브로커, 단일 서버용 - relay: 외부 STOMP 브로커(RabbitMQ/ActiveMQ
+ * 등)로 중계 → 서버 여러 대가 같은 방 구독/전송을 공유 - relay 는 hosts 를 돌아가며 접속(장애 시 다음 호스트), 서버발 메시지는
+ * 시스템 연결 1개로 보냄 - /user/.. 메시지와 접속자 목록도 브로커로 공유해서 다른 서버에 붙은 사용자에게 전달
+ */
+@Slf4j
+@Component
+public class StompBrokerConfigurer {
+
+	private static final String[] BROKER_PREFIXES = { "/topic", "/queue" };
+
+	@Value("${tradezone.ws.broker.mode:simple}")
+	private String mode;
+
+	@Value("${tradezone.ws.broker.hosts:localhost:61613}")
+	private String hosts;
+
+	@Value("${tradezone.ws.broker.login:guest}")
+	private String login;
+
+	@Value("${tradezone.ws.broker.passcode:guest}")
+	private String passcode;
+
+	@Value("${tradezone.ws.broker.virtual-host:}")
+	private String virtualHost;
+
+	@Value("${tradezone.ws.broker.heartbeat-ms:10000}")
+	private long heartbeatMs;
+
+	public boolean isRelay() {
+		return "relay".equalsIgnoreCase(mode);
+	}
+
+	public void configure(MessageBrokerRegistry registry, TaskScheduler heartbeatScheduler) {
+		if (!isRelay()) {
+			// 구독(/topic/...) 지원 - 서버↔클라이언트 하트비트
+			registry.enableSimpleBroker(BROKER_PREFIXES).setHeartbeatValue(new long[] { heartbeatMs, heartbeatMs })
+					.setTaskScheduler(heartbeatScheduler);
+			return;
+		}
+
+		List<InetSocketAddress> addresses = parseHosts(hosts);
+		StompBrokerRelayRegistration relay = registry.enableStompBrokerRelay(BROKER_PREFIXES)
+				.setClientLogin(login).setClientPasscode(passcode)
+				.setSystemLogin(login).setSystemPasscode(passcode)
+				.setSystemHeartbeatSendInterval(heartbeatMs).setSystemHeartbeatReceiveInterval(heartbeatMs)
+				.setUserDestinationBroadcast("/topic/unresolved-user-destination")
+				.setUserRegistryBroadcast("/topic/simp-user-registry")
+				.setTcpClient(tcpClient(addresses));
+		if (StringUtils.hasText(virtualHost)) {
+			relay.setVirtualHost(virtualHost);
+		}
+		log.info("STOMP 브로커 relay 모드 - {}", addresses);
+	}
+
+	// 연결마다 다음 호스트로 (라운드로빈) → 한 대가 죽어도 재접속 시 다른 호스트로 붙는다
+	private ReactorNettyTcpClient<byte[]> tcpClient(List<InetSocketAddress> addresses) {
+		AtomicInteger next = new AtomicInteger();
+		return new ReactorNettyTcpClient<>(
+				client -> client.remoteAddress(
+						() -> addresses.get(Math.floorMod(next.getAndIncrement(), addresses.size()))),
+				new StompReactorNettyCodec());
+	}
+
+	static List<InetSocketAddress> parseHosts(String hosts) {
+		List<InetSocketAddress> addresses = Arrays.stream(hosts.split(",")).map(String::trim)
+				.filter(StringUtils::hasText).map(h -> {
+					int colon = h.lastIndexOf(':');
+					return colon < 0 ? InetSocketAddress.createUnresolved(h, 61613)
+							: InetSocketAddress.createUnresolved(h.substring(0, colon),
+									Integer.parseInt(h.substring(colon + 1)));
+				}).toList();
+		if (addresses.isEmpty()) {
+			throw new IllegalStateException("tradezone.ws.broker.hosts 가 비어 있습니다.");
+		}
+		return addresses;
+	}
+}
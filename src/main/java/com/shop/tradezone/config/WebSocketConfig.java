@@ -1,16 +1,26 @@
 package com.shop.tradezone.config;
 
+import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.handler.invocation.HandlerMethodArgumentResolver;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+import com.shop.tradezone.websocket.AuthChannelInterceptor;
+import com.shop.tradezone.websocket.CompactWireInterceptor;
+import com.shop.tradezone.websocket.SessionRateLimitInterceptor;
+import com.shop.tradezone.websocket.StompPrincipalArgumentResolver;
 import com.shop.tradezone.websocket.TopicAuthInterceptor;
 
 import lombok.RequiredArgsConstructor;
@@ -20,7 +30,34 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+	private final AuthChannelInterceptor authInterceptor;
 	private final TopicAuthInterceptor interceptor;
+	private final StompBrokerConfigurer brokerConfigurer;
+	private final CompactWireInterceptor compactWireInterceptor;
+	private final SessionRateLimitInterceptor rateLimitInterceptor;
+
+	// 소켓 메시지 처리 스레드 - 기본값은 CPU 수 기준 (DB 작업이 섞이는 inbound 는 넉넉하게)
+	@Value("${tradezone.ws.inbound.threads:#{T(java.lang.Runtime).getRuntime().availableProcessors() * 4}}")
+	private int inboundThreads;
+
+	@Value("${tradezone.ws.inbound.queue-capacity:2000}")
+	private int inboundQueueCapacity;
+
+	@Value("${tradezone.ws.outbound.threads:#{T(java.lang.Runtime).getRuntime().availableProcessors() * 2}}")
+	private int outboundThreads;
+
+	@Value("${tradezone.ws.outbound.queue-capacity:10000}")
+	private int outboundQueueCapacity;
+
+	// 세션별 전송 버퍼 - 느린 클라이언트가 이 한도/시간을 넘기면 그 세션만 끊는다 (다른 사용자 전송은 계속)
+	@Value("${tradezone.ws.send-buffer-kb:512}")
+	private int sendBufferKb;
+
+	@Value("${tradezone.ws.send-time-limit-ms:20000}")
+	private int sendTimeLimitMs;
+
+	@Value("${tradezone.ws.heartbeat-threads:2}")
+	private int heartbeatThreads;
 
 	@Override
 	public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -30,30 +67,56 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
 	@Override
 	public void configureMessageBroker(MessageBrokerRegistry registry) {
-		// 구독(/topic/...) 지원
-		registry.enableSimpleBroker("/topic", "/queue").setHeartbeatValue(new long[] { 10000, 10000 }) // 서버↔클라이언트 10초
-																										// 하트비트
-				.setTaskScheduler(heartbeatScheduler()); // 하트비트 스케줄러
+		// 브로커: simple(기본, 메모리) / relay(외부 STOMP 브로커) - tradezone.ws.broker.mode
+		brokerConfigurer.configure(registry, heartbeatScheduler());
 		registry.setApplicationDestinationPrefixes("/app"); // 전송(/app/...)
 		registry.setUserDestinationPrefix("/user"); // convertAndSendToUser 용
+		registry.setPreservePublishOrder(true); // 풀에서 병렬로 보내도 세션별 순서 유지
 	}
 
 	@Override
 	public void configureClientInboundChannel(ChannelRegistration registration) {
-		registration.interceptors(interceptor);
+		// 세션별 전송 제한 → CONNECT 인증 → SUBSCRIBE 권한
+		registration.interceptors(rateLimitInterceptor, authInterceptor, interceptor);
+		// 큐가 차면 소켓을 읽는 스레드가 직접 처리 (CallerRuns) - 그 스레드는 여러 세션이 나눠 쓰므로 전체가 같이 느려지는
+		// 마지막 안전장치일 뿐, 클라이언트별 제한은 rateLimitInterceptor 가 맡는다
+		registration.taskExecutor(channelExecutor("ws-in-", inboundThreads, inboundQueueCapacity));
+	}
+
+	@Override
+	public void configureClientOutboundChannel(ChannelRegistration registration) {
+		registration.interceptors(compactWireInterceptor); // x-tz-wire: compact 세션은 축약 JSON 으로
+		registration.taskExecutor(channelExecutor("ws-out-", outboundThreads, outboundQueueCapacity));
+	}
+
+	// 빈 등록/초기화는 Spring 의 clientInbound/OutboundChannelExecutor 빈이 맡는다 (여기서 initialize X)
+	private ThreadPoolTaskExecutor channelExecutor(String prefix, int threads, int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setThreadNamePrefix(prefix);
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		return executor;
+	}
+
+	@Override
+	public void addArgumentResolvers(List<HandlerMethodArgumentResolver> argumentResolvers) {
+		argumentResolvers.add(new StompPrincipalArgumentResolver()); // @AuthenticationPrincipal MemberPrincipal
 	}
 
 	@Override
 	public void configureWebSocketTransport(WebSocketTransportRegistration registry) {
 		registry.setMessageSizeLimit(128 * 1024); // 128KB
-		registry.setSendTimeLimit(20 * 1000); // 20s
-		registry.setSendBufferSizeLimit(512 * 1024); // 512KB
+		registry.setSendTimeLimit(sendTimeLimitMs);
+		registry.setSendBufferSizeLimit(sendBufferKb * 1024);
+		// permessage-deflate 는 Tomcat 이 브라우저 제안(Sec-WebSocket-Extensions)을 받아 직접 협상 → 설정 불필요
 	}
 
 	@Bean
 	public TaskScheduler heartbeatScheduler() {
 		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
-		scheduler.setPoolSize(1);
+		scheduler.setPoolSize(heartbeatThreads);
 		scheduler.setThreadNamePrefix("ws-heartbeat-");
 		scheduler.initialize();
 		return scheduler;
@@ -0,0 +1,11 @@
+package com.shop.tradezone.constant;
+
+/** 거래 상태 전이 종류 (trade_event.type) */
+public enum TradeEventType {
+	REQUEST_COMPLETE, // 완료 요청
+	APPROVE_COMPLETE, // 완료 승인 → COMPLETED
+	REJECT_COMPLETE, // 완료 거절 → PENDING
+	REQUEST_CANCEL, // 취소(무산) 요청
+	APPROVE_CANCEL, // 취소 승인 → ENDED
+	REJECT_CANCEL // 취소 거절 → PENDING
+}
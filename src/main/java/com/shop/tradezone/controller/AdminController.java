@@ -19,6 +19,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import com.shop.tradezone.constant.Role;
+import com.shop.tradezone.dto.ImageUploadReport;
 import com.shop.tradezone.dto.ItemUpdateDto;
 import com.shop.tradezone.dto.MemberUpdateDto;
 import com.shop.tradezone.entity.Item;
@@ -26,6 +27,7 @@ import com.shop.tradezone.entity.Member;
 import com.shop.tradezone.entity.Review;
 import com.shop.tradezone.service.CategoryService;
 import com.shop.tradezone.service.ItemService;
+import com.shop.tradezone.service.ItemUploadService;
 import com.shop.tradezone.service.MemberPrincipal;
 import com.shop.tradezone.service.MemberService;
 import com.shop.tradezone.service.ReviewService;
@@ -43,6 +45,8 @@ public class AdminController {
 
 	private final ItemService itemService;
 
+	private final ItemUploadService itemUploadService;
+
 	private final ReviewService reviewService;
 
 	private final CategoryService categoryService;
@@ -141,8 +145,8 @@ public class AdminController {
 	// 상품 수정 처리 (관리자 전용)
 	@PostMapping("/items/edit/{id}")
 	public String updateItem(@AuthenticationPrincipal MemberPrincipal memberPrincipal, @PathVariable Long id,
-			@Valid @ModelAttribute ItemUpdateDto updateDto, BindingResult bindingResult, Model model)
-			throws IOException {
+			@Valid @ModelAttribute ItemUpdateDto updateDto, BindingResult bindingResult, Model model,
+			RedirectAttributes redirectAttributes) throws IOException {
 
 		Long memberId = memberPrincipal.getMemberId();
 		Collection<? extends GrantedAuthority> authorities = memberPrincipal.getAuthorities();
@@ -158,7 +162,10 @@ public class AdminController {
 			return "admin/item_form";
 		}
 
-		itemService.updateItem(updateDto, memberId, authorities);
+		ImageUploadReport report = itemUploadService.updateItem(updateDto, memberId, authorities);
+		if (report.hasFailures()) {
+			redirectAttributes.addFlashAttribute("message", report.failureMessage());
+		}
 
 		return "redirect:/admin/items"; // 관리자 상품 목록 페이지
 	}
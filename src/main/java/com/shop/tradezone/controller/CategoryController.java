@@ -1,7 +1,6 @@
 package com.shop.tradezone.controller;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,7 +9,6 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.shop.tradezone.dto.CategoryDto;
-import com.shop.tradezone.entity.Category;
 import com.shop.tradezone.service.CategoryService;
 
 @RestController // JSON 반환을 위해 @Controller가 아닌 @RestController 사용
@@ -22,20 +20,12 @@ public class CategoryController {
 
 	@GetMapping("/parents")
 	public List<CategoryDto> getParentCategories() {
-		List<Category> parents = categoryService.findParentCategoriesWithChildren();
-		return parents.stream()
-				.map(p -> new CategoryDto(p.getId(), p.getName(), p.getImgUrl(), null, null))
-				.collect(Collectors.toList());
+		// 메모리 스냅샷에서 바로 반환 (자식 포함)
+		return categoryService.findParentCategoriesWithChildren();
 	}
 
 	@GetMapping("/children")
 	public List<CategoryDto> getChildCategories(@RequestParam("parentId") Long parentId) {
-		// 자식 카테고리 가져오기
-		List<Category> children = categoryService.findChildrenByParentId(parentId);
-
-		// Entity -> DTO 매핑
-		return children.stream()
-				.map(child -> new CategoryDto(child.getId(), child.getName(), child.getImgUrl(), parentId, null))
-				.collect(Collectors.toList());
+		return categoryService.findChildrenByParentId(parentId);
 	}
-}
\ No newline at end of file
+}
@@ -1,6 +1,6 @@
 package com.shop.tradezone.controller;
 
-import org.springframework.data.domain.Page;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -8,7 +8,9 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.shop.tradezone.dto.ChatMessageDto;
+import com.shop.tradezone.dto.CursorSliceDto;
 import com.shop.tradezone.service.ChatMessageService;
+import com.shop.tradezone.service.MemberPrincipal;
 
 import lombok.RequiredArgsConstructor;
 
@@ -19,9 +21,14 @@ public class ChatHistoryController {
 
 	private final ChatMessageService chatMessageService;
 
+	// 최신 → 과거 커서 조회 (?before=가장 오래된 id 로 이전 대화, ?after=가장 최신 id 로 놓친 대화)
 	@GetMapping("/rooms/{roomId}/messages")
-	public Page<ChatMessageDto> history(@PathVariable Long roomId, @RequestParam(defaultValue = "0") int page,
-			@RequestParam(defaultValue = "30") int size) {
-		return chatMessageService.getMessages(roomId, page, size);
+	public CursorSliceDto<ChatMessageDto> history(@PathVariable Long roomId,
+			@AuthenticationPrincipal MemberPrincipal principal,
+			@RequestParam(name = "before", required = false) Long before,
+			@RequestParam(name = "after", required = false) Long after,
+			@RequestParam(name = "size", defaultValue = "30") int size) {
+		return chatMessageService.getHistory(roomId, principal.getMemberId(), before, after,
+				Math.max(1, Math.min(size, 100)));
 	}
 }
@@ -4,6 +4,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.shop.tradezone.service.ChatMessageService;
@@ -24,8 +25,10 @@ public class ChatRestController {
 //		return chatMessageService.getMessages(roomId, page, size);
 //	}
 
+	// 읽음 처리 (lastReadId 없으면 최신 메시지까지) - 바로 DB 에 쓰지 않고 모아서 반영
 	@PostMapping("/rooms/{roomId}/read")
-	public void markRead(@PathVariable Long roomId, @AuthenticationPrincipal MemberPrincipal principal) {
-		chatMessageService.clearUnread(roomId, principal.getMemberId());
+	public void markRead(@PathVariable Long roomId, @RequestParam(required = false) Long lastReadId,
+			@AuthenticationPrincipal MemberPrincipal principal) {
+		chatMessageService.markRead(roomId, principal.getMemberId(), lastReadId);
 	}
 }
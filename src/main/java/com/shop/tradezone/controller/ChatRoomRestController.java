@@ -5,6 +5,7 @@ import java.util.List;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.shop.tradezone.dto.ChatRoomListDto;
@@ -21,7 +22,9 @@ public class ChatRoomRestController {
 	private final ChatRoomService chatRoomService;
 
 	@GetMapping("/my")
-	public List<ChatRoomListDto> getMyRooms(@AuthenticationPrincipal MemberPrincipal principal) {
-		return chatRoomService.getMyRooms(principal.getMemberId());
+	public List<ChatRoomListDto> getMyRooms(@AuthenticationPrincipal MemberPrincipal principal,
+			@RequestParam(name = "page", defaultValue = "0") int page,
+			@RequestParam(name = "size", defaultValue = "30") int size) {
+		return chatRoomService.getMyRooms(principal.getMemberId(), page, Math.min(size, 100));
 	}
 }
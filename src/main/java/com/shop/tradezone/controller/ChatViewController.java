@@ -1,5 +1,6 @@
 package com.shop.tradezone.controller;
 
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -7,6 +8,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 
 import com.shop.tradezone.repository.TradeRepository;
 import com.shop.tradezone.service.ChatRoomService;
+import com.shop.tradezone.service.MemberPrincipal;
 
 import lombok.RequiredArgsConstructor;
 
@@ -23,8 +25,12 @@ public class ChatViewController {
 	}
 
 	@GetMapping("/chat")
-	public String chatRoom(@RequestParam Long roomId, Model model) {
+	public String chatRoom(@RequestParam Long roomId, @AuthenticationPrincipal MemberPrincipal principal,
+			Model model) {
 		model.addAttribute("roomId", roomId);
+		if (principal != null) {
+			model.addAttribute("myId", principal.getMemberId()); // 내 메시지 구분용
+		}
 		// 거래 버튼용 tradeId 주입(있을 때만)
 		tradeRepo.findByChatRoom_Id(roomId).ifPresent(t -> model.addAttribute("tradeId", t.getId()));
 		return "chat";
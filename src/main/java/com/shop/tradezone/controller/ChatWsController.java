@@ -1,12 +1,19 @@
 package com.shop.tradezone.controller;
 
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 
 import com.shop.tradezone.service.ChatMessageService;
 import com.shop.tradezone.service.MemberPrincipal;
+import com.shop.tradezone.service.PresenceService;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -20,6 +27,7 @@ import lombok.RequiredArgsConstructor;
 public class ChatWsController {
 
 	private final ChatMessageService chatMessageService;
+	private final PresenceService presenceService;
 
 	public record SendPayload(Long roomId, Long senderId, String content) {
 	}
@@ -27,6 +35,12 @@ public class ChatWsController {
 	public record SystemPayload(Long roomId, String content) {
 	}
 
+	public record ReadPayload(Long lastReadId) {
+	}
+
+	public record VisiblePayload(boolean visible) {
+	}
+
 	// 클라이언드에서 보내는 페이로드?
 	public record SendMessageReq(@NotNull Long roomId, @NotBlank String content) {
 	}
@@ -36,4 +50,37 @@ public class ChatWsController {
 	public void send(@Payload SendPayload payload, @AuthenticationPrincipal MemberPrincipal principal) {
 		chatMessageService.sendText(payload.roomId(), principal.getMemberId(), payload.content());
 	}
+
+	// 읽음 처리 (/app/chat.read.{roomId}) - 화면에 보일 때마다 오므로 서버에서 모아서 반영
+	// 이 세션이 가시성 신호로 방을 띄우고 있다고 알린 경우만 (구독만 한 백그라운드 탭 X)
+	@MessageMapping("/chat.read.{roomId}")
+	public void read(@DestinationVariable Long roomId, @Payload(required = false) ReadPayload payload,
+			@Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId,
+			@AuthenticationPrincipal MemberPrincipal principal) {
+		if (!presenceService.isVisible(sessionId, roomId)) {
+			return;
+		}
+		chatMessageService.markRead(roomId, principal.getMemberId(), payload != null ? payload.lastReadId() : null);
+	}
+
+	// 가시성 (/app/chat.visible.{roomId}) - 탭이 보이고 포커스가 있으면 true, 숨기거나 포커스를 잃으면 false
+	@MessageMapping("/chat.visible.{roomId}")
+	public void visible(@DestinationVariable Long roomId, @Payload VisiblePayload payload,
+			@Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId,
+			@AuthenticationPrincipal MemberPrincipal principal) {
+		presenceService.visibility(roomId, principal.getMemberId(), sessionId, payload.visible());
+	}
+
+	// 입력 중 (/app/chat.typing.{roomId}) - 방송은 PresenceService 가 간격을 두고 1번만
+	@MessageMapping("/chat.typing.{roomId}")
+	public void typing(@DestinationVariable Long roomId, @AuthenticationPrincipal MemberPrincipal principal) {
+		presenceService.typing(roomId, principal.getMemberId());
+	}
+
+	// 참가자 아님 / 전송 거절 (저장 지연 등) → 보낸 사람에게만 에러 전달
+	@MessageExceptionHandler({ IllegalStateException.class, AccessDeniedException.class })
+	@SendToUser("/queue/errors")
+	public String handleWsErrors(Exception ex) {
+		return ex.getMessage();
+	}
 }
@@ -0,0 +1,75 @@
+package com.shop.tradezone.controller;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.shop.tradezone.service.ImageDelivery;
+import com.shop.tradezone.service.ImageDiskCache;
+import com.shop.tradezone.service.ImageStorage;
+import com.shop.tradezone.service.ImageStorage.StoredObject;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이미지 프록시 (/img/{key}) - 1년 immutable 캐시 + 강한 ETag (키가 바뀌지 않는 한 내용도 같음) - If-None-Match 가 맞으면
+ * 저장소/디스크를 읽지 않고 바로 304 - 목록 썸네일은 디스크 캐시(LRU)에서, 나머지는 저장소에서 그대로 흘려보냄
+ */
+@RestController
+@RequiredArgsConstructor
+public class ImageProxyController {
+
+	private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic()
+			.immutable();
+
+	private final ImageStorage storage;
+	private final ImageDiskCache diskCache;
+
+	@GetMapping("/img/{*key}")
+	public ResponseEntity<Resource> image(@PathVariable("key") String path,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) throws IOException {
+		String key = path.startsWith("/") ? path.substring(1) : path;
+		if (!ImageDelivery.isServable(key)) {
+			return ResponseEntity.notFound().build();
+		}
+
+		String etag = ImageDelivery.etagOf(key);
+		if (matches(ifNoneMatch, etag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(IMMUTABLE).build();
+		}
+
+		Optional<StoredObject> object = diskCache.isCacheable(key) ? diskCache.open(key, storage) : storage.open(key);
+		if (object.isEmpty()) {
+			return ResponseEntity.notFound().build();
+		}
+		StoredObject o = object.get();
+		MediaType type = o.contentType() != null ? MediaType.parseMediaType(o.contentType())
+				: MediaTypeFactory.getMediaType(key).orElse(MediaType.APPLICATION_OCTET_STREAM);
+		// 스트림은 응답을 다 쓴 뒤 닫힘
+		return ResponseEntity.ok().eTag(etag).cacheControl(IMMUTABLE).contentType(type).contentLength(o.length())
+				.body(new InputStreamResource(o.body()));
+	}
+
+	// "a", W/"b", * 형식 모두
+	private static boolean matches(String ifNoneMatch, String etag) {
+		if (ifNoneMatch == null) {
+			return false;
+		}
+		return Arrays.stream(ifNoneMatch.split(",")).map(String::trim)
+				.map(t -> t.startsWith("W/") ? t.substring(2) : t).anyMatch(t -> t.equals(etag) || t.equals("*"));
+	}
+}
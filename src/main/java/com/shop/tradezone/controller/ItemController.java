@@ -6,13 +6,12 @@ import java.util.List;
 import java.util.Map;
 
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
+import org.springframework.util.StringUtils;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -22,21 +21,28 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import com.shop.tradezone.dto.CategoryDto;
+import com.shop.tradezone.dto.CursorSliceDto;
+import com.shop.tradezone.dto.ImageUploadReport;
 import com.shop.tradezone.dto.ItemCardDto;
 import com.shop.tradezone.dto.ItemDetailDto;
 import com.shop.tradezone.dto.ItemFormDto;
 import com.shop.tradezone.dto.ItemUpdateDto;
 import com.shop.tradezone.dto.ReviewFormDto;
-import com.shop.tradezone.entity.Category;
 import com.shop.tradezone.entity.Item;
 import com.shop.tradezone.repository.ItemRepository;
 import com.shop.tradezone.service.CategoryService;
 import com.shop.tradezone.service.ItemService;
+import com.shop.tradezone.service.ItemUploadService;
+import com.shop.tradezone.service.ItemViewCounter;
 import com.shop.tradezone.service.MemberPrincipal;
 import com.shop.tradezone.service.ReviewService;
 
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -50,41 +56,51 @@ import lombok.extern.slf4j.Slf4j;
 public class ItemController {
 
 	private final ItemService itemService;
+	private final ItemUploadService itemUploadService;
 	private final ItemRepository itemRepository;
 	private final CategoryService categoryService;
 	private final ReviewService reviewService;
+	private final ItemViewCounter itemViewCounter;
 
 	// 메인 최근 상품
 	@GetMapping("/main")
 	public String mainPage(Model model) {
-		// 0페이지, 12개 상품 중 판매중(SELL) 상태인 상품만 가져옴
-		Page<ItemCardDto> recentItemsPage = itemService.getMainItems(0, 12);
-		model.addAttribute("recentItems", recentItemsPage.getContent()); // 상품 리스트
-		model.addAttribute("paging", recentItemsPage); // 페이징 정보
+		// 최신 12개 (커서 페이징 - COUNT 없음, 이후는 /api/items/feed?cursor= 로 이어받기)
+		CursorSliceDto<ItemCardDto> recentItems = itemService.getMainItems(null, 12);
+		model.addAttribute("recentItems", recentItems.content()); // 상품 리스트
+		model.addAttribute("nextCursor", recentItems.nextCursor()); // 다음 페이지 커서
 
 		return "main"; // main.html 뷰 렌더링
 	}
 
-//	@GetMapping("/my")
-//	public String getMyItems(@RequestParam Long memberId, @RequestParam(defaultValue = "0") int page,
-//			@RequestParam(defaultValue = "12") int size, Model model) {
-//
-//		Page<?> items = itemService.getItemsByMember(memberId, page, size);
-//		model.addAttribute("items", items.getContent());
-//		model.addAttribute("paging", items);
-//		return "mypage";
-//	}
-
 	// 카테고리별 상품 상세 조회
+	// 최신순 = 커서 페이징 (created, item_id), 가격 필터/정렬 = (category_id, price) 범위 안에서 페이지 번호
 	@GetMapping("/category/{parentId}/{childId}")
 	public String getItemsByCategory(@PathVariable("parentId") Long parentId, @PathVariable("childId") Long childId,
-			@RequestParam(name = "page", defaultValue = "0") int page, Model model) {
-
-		Pageable pageable = PageRequest.of(page, 10);
-		Page<ItemCardDto> items = itemService.getItemsByCategory(parentId, childId, pageable);
-
-		model.addAttribute("items", items);
-		model.addAttribute("paging", items);
+			@RequestParam(name = "cursor", required = false) String cursor,
+			@RequestParam(name = "page", defaultValue = "0") int page,
+			@RequestParam(name = "minPrice", required = false) Long minPrice,
+			@RequestParam(name = "maxPrice", required = false) Long maxPrice,
+			@RequestParam(name = "sort", required = false) String sort, Model model) {
+
+		boolean cursorMode = minPrice == null && maxPrice == null && !StringUtils.hasText(sort);
+		if (cursorMode) {
+			CursorSliceDto<ItemCardDto> slice = categoryService.isChildOf(childId, parentId)
+					? itemService.getItemsByCategory(childId, cursor, 10)
+					: new CursorSliceDto<>(List.of(), null, false);
+			model.addAttribute("items", slice.content());
+			model.addAttribute("nextCursor", slice.nextCursor());
+			model.addAttribute("firstPage", !StringUtils.hasText(cursor));
+		} else {
+			Page<ItemCardDto> items = itemService.getItemsByCategory(parentId, childId, minPrice, maxPrice, sort, page,
+					10);
+			model.addAttribute("items", items.getContent());
+			model.addAttribute("paging", items);
+		}
+		model.addAttribute("cursorMode", cursorMode);
+		model.addAttribute("minPrice", minPrice);
+		model.addAttribute("maxPrice", maxPrice);
+		model.addAttribute("sort", sort);
 
 		model.addAttribute("parentId", parentId);
 		model.addAttribute("parentName", categoryService.getCategoryNameById(parentId));
@@ -97,11 +113,16 @@ public class ItemController {
 	// 상품 상세 조회
 	@GetMapping("/detail/{id}")
 	public String detailPage(@PathVariable("id") Long id, Model model,
-			@AuthenticationPrincipal MemberPrincipal memberPrincipal) {
+			@AuthenticationPrincipal MemberPrincipal memberPrincipal, HttpServletRequest request) {
 
 		Long memberId = memberPrincipal != null ? memberPrincipal.getMemberId() : null;
 		ItemDetailDto itemDetail = itemService.getItemDetail(id, memberId);
 
+		// 조회수 집계 (회원은 회원 기준, 비회원은 이미 있는 세션 기준으로 중복 제거)
+		// 조회수 때문에 세션을 만들지 않음 - 세션이 없으면 중복 제거 없이 집계
+		HttpSession session = request.getSession(false);
+		itemViewCounter.record(id, memberId != null ? "m" + memberId : session != null ? "s" + session.getId() : null);
+
 		// 현재 사용자가 판매자인지 확인
 		boolean isSeller = memberPrincipal != null && memberPrincipal.getMemberId().equals(itemDetail.getSellerId());
 
@@ -199,11 +220,11 @@ public class ItemController {
 		model.addAttribute("itemFormDto", form);
 
 		// 부모 카테고리 리스트 세팅
-		List<Category> parents = categoryService.findParentCategoriesWithChildren();
+		List<CategoryDto> parents = categoryService.findParentCategoriesWithChildren();
 		model.addAttribute("parents", parents);
 
 		// 자식 카테고리: parentId가 있으면 해당 부모의 자식들, 없으면 빈 리스트
-		List<Category> children = List.of();
+		List<CategoryDto> children = List.of();
 		if (parentId != null) {
 			children = categoryService.findChildrenByParentId(parentId);
 		}
@@ -215,7 +236,7 @@ public class ItemController {
 	// 자식 카테고리 조회 API
 	@GetMapping("/categories/children")
 	@ResponseBody
-	public List<Category> getChildrenByParent(@RequestParam("parentId") Long parentId) {
+	public List<CategoryDto> getChildrenByParent(@RequestParam("parentId") Long parentId) {
 		return categoryService.findChildrenByParentId(parentId);
 	}
 
@@ -223,14 +244,15 @@ public class ItemController {
 	@PreAuthorize("isAuthenticated()")
 	@PostMapping("/new")
 	public String createItem(@Valid @ModelAttribute ItemFormDto itemFormDto, BindingResult bindingResult, Model model,
-			@AuthenticationPrincipal MemberPrincipal memberPrincipal) throws IOException {
+			@AuthenticationPrincipal MemberPrincipal memberPrincipal, RedirectAttributes redirectAttributes)
+			throws IOException {
 
 		if (bindingResult.hasErrors()) {
 			model.addAttribute("itemFormDto", itemFormDto);
 			// 일관성 위해 부모/자식 리스트 다시 넣기
-			List<Category> parents = categoryService.findParentCategoriesWithChildren();
+			List<CategoryDto> parents = categoryService.findParentCategoriesWithChildren();
 			Long defaultParentId = parents.isEmpty() ? null : parents.get(0).getId();
-			List<Category> children = defaultParentId == null ? List.of()
+			List<CategoryDto> children = defaultParentId == null ? List.of()
 					: categoryService.findChildrenByParentId(defaultParentId);
 			model.addAttribute("parents", parents);
 			model.addAttribute("children", children);
@@ -243,9 +265,9 @@ public class ItemController {
 			model.addAttribute("itemFormDto", itemFormDto);
 
 			// 다시 부모/자식 리스트 넣기
-			List<Category> parents = categoryService.findParentCategoriesWithChildren();
+			List<CategoryDto> parents = categoryService.findParentCategoriesWithChildren();
 			Long defaultParentId = parents.isEmpty() ? null : parents.get(0).getId();
-			List<Category> children = defaultParentId == null ? List.of()
+			List<CategoryDto> children = defaultParentId == null ? List.of()
 					: categoryService.findChildrenByParentId(defaultParentId);
 			model.addAttribute("parents", parents);
 			model.addAttribute("children", children);
@@ -254,7 +276,10 @@ public class ItemController {
 
 		// TODO: 로그인한 회원 ID 받아와서 넣기 (현재 하드코딩)
 		Long userId = memberPrincipal.getMemberId();
-		itemService.createItem(itemFormDto, userId);
+		ImageUploadReport report = itemUploadService.createItem(itemFormDto, userId);
+		if (report.hasFailures()) {
+			redirectAttributes.addFlashAttribute("message", report.failureMessage());
+		}
 
 		return "redirect:/items/main";
 	}
@@ -274,8 +299,8 @@ public class ItemController {
 		Long parentId = categoryService.getParentIdByChildId(childId);
 
 		// 부모 카테고리(teams)와 자식 카테고리(품목)를 분리하여 모델에 전달
-		List<Category> parents = categoryService.findParentCategoriesWithChildren();
-		List<Category> children = categoryService.findChildrenByParentId(parentId); // 해당 부모의 자식들만 로드
+		List<CategoryDto> parents = categoryService.findParentCategoriesWithChildren();
+		List<CategoryDto> children = categoryService.findChildrenByParentId(parentId); // 해당 부모의 자식들만 로드
 		
 		model.addAttribute("parents", parents); // 부모 카테고리 목록
 		model.addAttribute("children", children); // 자식 카테고리 목록
@@ -293,8 +318,8 @@ public class ItemController {
 	@PreAuthorize("isAuthenticated()")
 	@PostMapping("/edit/{id}")
 	public String updateItem(@AuthenticationPrincipal MemberPrincipal memberPrincipal, @PathVariable("id") Long id,
-			@Valid @ModelAttribute ItemUpdateDto updateDto, BindingResult bindingResult, Model model)
-			throws IOException {
+			@Valid @ModelAttribute ItemUpdateDto updateDto, BindingResult bindingResult, Model model,
+			RedirectAttributes redirectAttributes) throws IOException {
 
 		Long memberId = memberPrincipal.getMemberId();
 		Collection<? extends GrantedAuthority> authorities = memberPrincipal.getAuthorities();
@@ -304,7 +329,10 @@ public class ItemController {
 			return "admin/item_form";
 		}
 
-		itemService.updateItem(updateDto, memberId, authorities);
+		ImageUploadReport report = itemUploadService.updateItem(updateDto, memberId, authorities);
+		if (report.hasFailures()) {
+			redirectAttributes.addFlashAttribute("message", report.failureMessage());
+		}
 
 		return "redirect:/items/detail/" + id; // 일반 사용자 상세 페이지
 	}
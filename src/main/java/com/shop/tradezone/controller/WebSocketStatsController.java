@@ -0,0 +1,54 @@
+package com.shop.tradezone.controller;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.socket.config.WebSocketMessageBrokerStats;
+
+/**
+ * 웹소켓 처리 현황 (관리자) - inbound/outbound 스레드풀 사용량/대기열, 세션 수, 느린 세션 강제 종료 수 등
+ */
+@RestController
+@RequestMapping("/admin/ws-stats")
+@PreAuthorize("hasRole('ADMIN')")
+public class WebSocketStatsController {
+
+	private final ThreadPoolTaskExecutor inboundExecutor;
+	private final ThreadPoolTaskExecutor outboundExecutor;
+	private final WebSocketMessageBrokerStats brokerStats;
+
+	public WebSocketStatsController(@Qualifier("clientInboundChannelExecutor") ThreadPoolTaskExecutor inboundExecutor,
+			@Qualifier("clientOutboundChannelExecutor") ThreadPoolTaskExecutor outboundExecutor,
+			WebSocketMessageBrokerStats brokerStats) {
+		this.inboundExecutor = inboundExecutor;
+		this.outboundExecutor = outboundExecutor;
+		this.brokerStats = brokerStats;
+	}
+
+	@GetMapping
+	public Map<String, Object> stats() {
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("inbound", executorStats(inboundExecutor));
+		result.put("outbound", executorStats(outboundExecutor));
+		result.put("sessions", brokerStats.getWebSocketSessionStatsInfo()); // 세션 수, 전송 한도 초과로 끊긴 수 포함
+		result.put("stomp", brokerStats.getStompSubProtocolStatsInfo());
+		result.put("broker", brokerStats.getStompBrokerRelayStatsInfo());
+		return result;
+	}
+
+	private Map<String, Object> executorStats(ThreadPoolTaskExecutor executor) {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("poolSize", executor.getPoolSize());
+		stats.put("active", executor.getActiveCount());
+		stats.put("queued", executor.getQueueSize());
+		stats.put("queueCapacity", executor.getQueueCapacity());
+		stats.put("completed", executor.getThreadPoolExecutor().getCompletedTaskCount());
+		return stats;
+	}
+}
@@ -1,25 +1,24 @@
 package com.shop.tradezone.dto;
 
-public class ChatNotificationDto {
-	private Long roomId;
-	private String userId;
-	private String event;
-
-	public ChatNotificationDto(Long roomId, String userId, String event) {
-		this.roomId = roomId;
-		this.userId = userId;
-		this.event = event;
-	}
+import java.time.LocalDateTime;
 
-	public Long getRoomId() {
-		return roomId;
-	}
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
 
-	public String getUserId() {
-		return userId;
-	}
-
-	public String getEvent() {
-		return event;
-	}
-}
\ No newline at end of file
+/** 개인 알림 (/user/queue/notifications) - 채팅 목록의 방 한 줄을 갱신할 만큼만 (목록 전체 재조회 X) */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatNotificationDto {
+	private String event; // ROOM_UPDATED
+	private Long roomId;
+	private int unread; // 받는 사람 기준 미읽음
+	private Long lastMessageId;
+	private String preview;
+	private LocalDateTime lastMessageAt;
+}
@@ -0,0 +1,30 @@
+package com.shop.tradezone.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** 방 접속/입력중 신호 (/topic/chat.{roomId}) - PRESENCE: 지금 방을 보고 있는 회원, TYPING: 입력 중인 회원 */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatPresenceDto {
+	private String type; // PRESENCE / TYPING
+	private Long roomId;
+	private Long memberId; // TYPING
+	private List<Long> viewers; // PRESENCE
+
+	public static ChatPresenceDto presence(Long roomId, List<Long> viewers) {
+		return ChatPresenceDto.builder().type("PRESENCE").roomId(roomId).viewers(viewers).build();
+	}
+
+	public static ChatPresenceDto typing(Long roomId, Long memberId) {
+		return ChatPresenceDto.builder().type("TYPING").roomId(roomId).memberId(memberId).build();
+	}
+}
@@ -1,5 +1,7 @@
 package com.shop.tradezone.dto;
 
+import com.shop.tradezone.constant.TradeStatus;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -14,8 +16,11 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class ChatRoomListDto {
 	private Long roomId;
+	private Long partnerId;
 	private String partnerName;
+	private Long lastMessageId;
 	private String lastMessage;
 	private java.time.LocalDateTime lastMessageAt;
 	private int unreadCount;
+	private TradeStatus tradeStatus; // 거래가 아직 없으면 null
 }
\ No newline at end of file
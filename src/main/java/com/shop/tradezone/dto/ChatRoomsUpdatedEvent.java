@@ -0,0 +1,18 @@
+package com.shop.tradezone.dto;
+
+import java.util.Collection;
+
+/**
+ * 방 메타(미읽음/최신 메시지) DB 반영 완료 이벤트 → 개인 알림 - readerIsA 가 null 이면 새 메시지(두 참가자 모두), 아니면 그
+ * 참가자의 읽음 처리
+ */
+public record ChatRoomsUpdatedEvent(Collection<Long> roomIds, Boolean readerIsA) {
+
+	public static ChatRoomsUpdatedEvent messages(Collection<Long> roomIds) {
+		return new ChatRoomsUpdatedEvent(roomIds, null);
+	}
+
+	public static ChatRoomsUpdatedEvent read(Collection<Long> roomIds, boolean readerIsA) {
+		return new ChatRoomsUpdatedEvent(roomIds, readerIsA);
+	}
+}
@@ -0,0 +1,20 @@
+package com.shop.tradezone.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Slice;
+
+/**
+ * 커서 기반 목록 응답 - COUNT 없이 content + 다음 커서만 내려준다. (nextCursor == null 이면 마지막 페이지)
+ */
+public record CursorSliceDto<T>(List<T> content, String nextCursor, boolean hasNext) {
+
+	// mapper 는 목록 전체를 한 번에 변환 (연관 데이터 일괄 조회용)
+	public static <E, T> CursorSliceDto<T> of(Slice<E> slice, Function<List<E>, List<T>> mapper,
+			Function<E, String> cursorOf) {
+		List<E> rows = slice.getContent();
+		String next = slice.hasNext() && !rows.isEmpty() ? cursorOf.apply(rows.get(rows.size() - 1)) : null;
+		return new CursorSliceDto<>(mapper.apply(rows), next, next != null);
+	}
+}
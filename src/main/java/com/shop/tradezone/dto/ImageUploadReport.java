@@ -0,0 +1,22 @@
+package com.shop.tradezone.dto;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/** 상품 등록/수정 시 이미지 처리 요약 - 실패한 파일과 사유를 화면에 알려주기 위함 */
+public record ImageUploadReport(Long itemId, int total, List<ImageUploadResult> failures) {
+
+	public static ImageUploadReport of(Long itemId, List<ImageUploadResult> results) {
+		return new ImageUploadReport(itemId, results.size(),
+				results.stream().filter(r -> !r.success()).toList());
+	}
+
+	public boolean hasFailures() {
+		return !failures.isEmpty();
+	}
+
+	public String failureMessage() {
+		return failures.stream().map(f -> f.fileName() + " (" + f.error() + ")")
+				.collect(Collectors.joining(", ", "이미지 " + failures.size() + "/" + total + "장 업로드 실패: ", ""));
+	}
+}
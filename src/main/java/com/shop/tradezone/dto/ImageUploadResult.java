@@ -0,0 +1,14 @@
+package com.shop.tradezone.dto;
+
+/** 이미지 1장 처리 결과 (index = 업로드 순서, 실패 시 error 에 사유) */
+public record ImageUploadResult(int index, String fileName, String imgUrl, String largeUrl, String mediumUrl,
+		String thumbnailUrl, String error) {
+
+	public static ImageUploadResult failed(int index, String fileName, String error) {
+		return new ImageUploadResult(index, fileName, null, null, null, null, error);
+	}
+
+	public boolean success() {
+		return error == null;
+	}
+}
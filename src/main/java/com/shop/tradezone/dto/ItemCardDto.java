@@ -24,7 +24,9 @@ public class ItemCardDto {
 	@JsonProperty("imgUrl")
 	private String thumbnailUrl;
 
-	private String price;
+	private String mediumUrl; // 고해상도 화면(srcset 2x)용
+
+	private Long price;
 
 	private ItemSellStatus status;
 
@@ -36,7 +38,7 @@ public class ItemCardDto {
 		this.price = item.getPrice();
 		this.created = item.getCreated();
 		if (item.getImages() != null && !item.getImages().isEmpty()) {
-			this.thumbnailUrl = item.getImages().get(0).getImgUrl();
+			this.thumbnailUrl = item.getImages().get(0).thumbnailOrOriginal();
 		}
 	}
 
@@ -0,0 +1,37 @@
+package com.shop.tradezone.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.shop.tradezone.exception.InvalidCursorException;
+
+/**
+ * 상품 목록 커서 (created, item_id) - 클라이언트에는 Base64 문자열(불투명 토큰)로만 내려준다. - 다음 페이지 조건: created
+ * < c.created OR (created = c.created AND id < c.id)
+ */
+public record ItemCursor(LocalDateTime created, Long id) {
+
+	// 첫 페이지용 (모든 상품보다 "뒤"에 있는 가상의 위치)
+	public static final ItemCursor FIRST = new ItemCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+	public String encode() {
+		String raw = created + "|" + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	// null/빈 값이면 첫 페이지, 형식이 틀리면 400
+	public static ItemCursor decode(String token) {
+		if (token == null || token.isBlank()) {
+			return FIRST;
+		}
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			int sep = raw.indexOf('|');
+			return new ItemCursor(LocalDateTime.parse(raw.substring(0, sep)), Long.valueOf(raw.substring(sep + 1)));
+		} catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+			throw new InvalidCursorException("잘못된 커서입니다.");
+		}
+	}
+}
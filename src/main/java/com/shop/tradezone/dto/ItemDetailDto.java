@@ -21,7 +21,7 @@ public class ItemDetailDto {
 	private Long id;
 	private String name;
 	private String description;
-	private String price;
+	private Long price;
 	private String region;
 	private int sellerItemCount;
 
@@ -19,4 +19,8 @@ public class ItemImgDto {
 
 	private String thumbnailUrl;
 
+	private String mediumUrl;
+
+	private String largeUrl;
+
 }
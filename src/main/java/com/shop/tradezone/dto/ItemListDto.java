@@ -14,7 +14,7 @@ public class ItemListDto {
 	private String id;
 	private String itemCode;
 	private String name;
-	private String price;
+	private Long price;
 	private ItemSellStatus status;
 	private LocalDateTime created;
 }
@@ -0,0 +1,42 @@
+package com.shop.tradezone.dto;
+
+import com.shop.tradezone.constant.ItemSellStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** 상품 검색 조건 (검색어 + 필터) */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemSearchCondition {
+
+	private String q; // 검색어
+
+	private Long parentCategoryId; // 구단
+
+	private Long categoryId; // 품목
+
+	private ItemSellStatus status;
+
+	private Long minPrice;
+
+	private Long maxPrice;
+
+	public boolean matches(ItemSearchDocument doc) {
+		if (parentCategoryId != null && !parentCategoryId.equals(doc.parentCategoryId()))
+			return false;
+		if (categoryId != null && !categoryId.equals(doc.categoryId()))
+			return false;
+		if (status != null && status != doc.status())
+			return false;
+		if (minPrice != null && (doc.price() == null || doc.price() < minPrice))
+			return false;
+		if (maxPrice != null && (doc.price() == null || doc.price() > maxPrice))
+			return false;
+		return true;
+	}
+}
@@ -0,0 +1,35 @@
+package com.shop.tradezone.dto;
+
+import java.time.LocalDateTime;
+
+import com.shop.tradezone.constant.ItemSellStatus;
+import com.shop.tradezone.entity.Category;
+import com.shop.tradezone.entity.Item;
+
+/**
+ * 검색 인덱스에 들어가는 상품 스냅샷 - 트랜잭션 안에서 만들어 커밋 후 이벤트로 전달한다. (커밋 후에는 지연로딩 불가) -
+ * removed=true 면 인덱스에서 삭제
+ */
+public record ItemSearchDocument(Long itemId, String name, String description, String region, Long price,
+		Long categoryId, Long parentCategoryId, ItemSellStatus status, String thumbnailUrl, LocalDateTime created,
+		boolean removed) {
+
+	public static ItemSearchDocument from(Item item) {
+		Category child = item.getCategoryId();
+		Long childId = child != null ? child.getId() : null;
+		Long parentId = child != null && child.getParent() != null ? child.getParent().getId() : null;
+		String thumbnail = item.getImages().isEmpty() ? null : item.getImages().get(0).thumbnailOrOriginal();
+
+		return new ItemSearchDocument(item.getId(), item.getName(), item.getDescription(), item.getRegion(),
+				item.getPrice(), childId, parentId, item.getStatus(), thumbnail, item.getCreated(), false);
+	}
+
+	public static ItemSearchDocument removed(Long itemId) {
+		return new ItemSearchDocument(itemId, null, null, null, null, null, null, null, null, null, true);
+	}
+
+	public ItemCardDto toCard() {
+		return ItemCardDto.builder().itemId(itemId).name(name).thumbnailUrl(thumbnailUrl)
+				.price(price).status(status).created(created).build();
+	}
+}
@@ -5,6 +5,7 @@ import java.util.List;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.shop.tradezone.entity.Item;
+import com.shop.tradezone.util.PriceUtil;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -51,7 +52,7 @@ public class ItemUpdateDto {
 		this.id = item.getId();
 		this.name = item.getName();
 		this.description = item.getDescription();
-		this.price = item.getPrice();
+		this.price = PriceUtil.toFormValue(item.getPrice());
 		this.region = item.getRegion();
 	}
 
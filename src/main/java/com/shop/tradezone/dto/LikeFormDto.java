@@ -19,7 +19,7 @@ public class LikeFormDto {
 
 	private String imgUrl;
 
-	private String price;
+	private Long price;
 
 	private LocalDateTime created;
 
@@ -36,7 +36,7 @@ public class LikeFormDto {
 		
 		// 이미지 URL 설정 (첫 번째 이미지 사용) - ItemCardDto와 동일한 방식
 		if (item.getImages() != null && !item.getImages().isEmpty()) {
-			this.imgUrl = item.getImages().get(0).getImgUrl();
+			this.imgUrl = item.getImages().get(0).thumbnailOrOriginal();
 		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,5 @@
+package com.shop.tradezone.dto;
+
+/** 찜 토글 결과 (liked: 현재 찜 상태, count: 최신 찜 수) */
+public record LikeToggleDto(boolean liked, int count) {
+}
@@ -15,4 +15,5 @@ public class TradeActionDto {
 	private Long tradeId; // 거래 ID (STOMP에서 사용)
 	private Long roomId; // 채팅방 ID (브로드캐스트 경로 계산용)
 	private String reason; // 취소 요청 시 사유(선택)
+	private Long seq; // 화면에 보이는 거래 상태의 전이 번호(선택) - 그 사이 바뀌었으면 거절
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.shop.tradezone.dto;
 
 import java.time.LocalDateTime;
 
+import com.shop.tradezone.constant.TradeEventType;
 import com.shop.tradezone.constant.TradePendingType;
 import com.shop.tradezone.constant.TradeStatus;
 import com.shop.tradezone.entity.Member;
@@ -20,7 +21,11 @@ import lombok.Setter;
 @AllArgsConstructor
 @Builder
 public class TradeSignalDto {
-	private String type; // REQUEST_*/APPROVE_*/REJECT_*
+	public static final String TRADE_EVENT = "TRADE_EVENT"; // 채팅방 토픽에서 일반 메시지와 구분
+
+	private String type; // TRADE_EVENT
+	private TradeEventType event; // REQUEST_*/APPROVE_*/REJECT_*
+	private Long seq; // 전이 번호 (다음 요청에 담아 보내면 그 사이 바뀐 경우 거절)
 	private Long tradeId;
 	private Long roomId;
 	private TradeStatus status; // PENDING / COMPLETE_REQUESTED / ... / ENDED
@@ -30,6 +35,7 @@ public class TradeSignalDto {
 	private Long actorId;
 	private String actorName;
 	private String reason;
+	private String content; // 채팅방 안내 문구
 	private LocalDateTime at;
 
 	/** REST 편의 생성자 */
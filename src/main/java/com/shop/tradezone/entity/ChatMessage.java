@@ -28,6 +28,7 @@ import lombok.Setter;
 @Builder
 public class ChatMessage {
 
+	// 저장은 ChatMessageWriter 가 미리 발급한 id 로 JDBC 배치 INSERT (엔티티는 조회용)
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
@@ -0,0 +1,23 @@
+package com.shop.tradezone.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@Table(name = "chat_message_seq")
+@NoArgsConstructor
+public class ChatMessageSeq {
+
+	// 채팅 메시지 id 발급 행 (ChatMessageIdAllocator 가 JDBC 로만 읽고 증가시킴)
+	@Id
+	@Column(name = "name", length = 50)
+	private String name;
+
+	@Column(name = "next_id", nullable = false)
+	private long nextId;
+}
@@ -42,12 +42,17 @@ import lombok.Setter;
 				// user_b_id 컬럼에 인덱스 부여 → 내가 B로 들어간 방들 조회 최적화
 				@Index(name = "idx_room_userb", columnList = "user_b_id"),
 				// lastMessageAt 컬럼에 인덱스 부여 → 최근 메시지 기준으로 정렬/목록 조회 성능 향상
-				@Index(name = "idx_room_lastmsg", columnList = "lastMessageAt") })
+				@Index(name = "idx_room_lastmsg", columnList = "lastMessageAt"),
+				// 내 채팅방 목록(A/B 각각 최근순) 정렬까지 인덱스로 처리
+				@Index(name = "idx_room_usera_lastmsg", columnList = "user_a_id, lastMessageAt"),
+				@Index(name = "idx_room_userb_lastmsg", columnList = "user_b_id, lastMessageAt") })
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class ChatRoom {
 
+	public static final int PREVIEW_LENGTH = 100;
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
@@ -82,16 +87,33 @@ public class ChatRoom {
 	private LocalDateTime createdAt = LocalDateTime.now();
 
 	// 목록 정렬/최근 대화 갱신에 사용
-	@Column(nullable = false)
+	// (아래 최신 메시지/미읽음 컬럼은 ChatMessageWriter 의 UPDATE 로만 바뀐다 → updatable = false)
+	@Column(nullable = false, updatable = false)
 	@Builder.Default
 	private LocalDateTime lastMessageAt = LocalDateTime.now();
 
-	// 미읽음 카운트는 항상 값이 있어야 하므로 NOT NULL + 기본값
-	@Column(nullable = false)
+	// 목록 표시용 최신 메시지 (메시지 테이블을 방마다 다시 조회하지 않도록 방에 복사해 둔다)
+	@Column(updatable = false)
+	private Long lastMessageId;
+
+	@Column(length = PREVIEW_LENGTH, updatable = false)
+	private String lastMessagePreview;
+
+	// 참가자별 마지막으로 읽은 메시지 id (읽음 high-water mark, ChatReadReceiptBuffer 가 SQL 로 갱신)
+	@Column(nullable = false, updatable = false)
+	@Builder.Default
+	private long lastReadIdA = 0;
+
+	@Column(nullable = false, updatable = false)
+	@Builder.Default
+	private long lastReadIdB = 0;
+
+	// 미읽음 카운트 = 상대가 보낸 메시지 중 lastReadId 이후 개수 (목록에서 COUNT 하지 않도록 캐시해 둔 값)
+	@Column(nullable = false, updatable = false)
 	@Builder.Default
 	private int unreadA = 0;
 
-	@Column(nullable = false)
+	@Column(nullable = false, updatable = false)
 	@Builder.Default
 	private int unreadB = 0;
 
@@ -106,29 +128,11 @@ public class ChatRoom {
 		}
 	}
 
-	// 서비스에서 읽음/미읽음 처리, 최신메시지 갱신 시 활용
-	public void touchLastMessageAt() {
-		this.lastMessageAt = LocalDateTime.now();
-	}
-
-	public void incrementUnreadFor(Member target) {
-		if (target == null)
-			return;
-		if (userA != null && userA.getId().equals(target.getId())) {
-			this.unreadA++;
-		} else if (userB != null && userB.getId().equals(target.getId())) {
-			this.unreadB++;
-		}
-	}
-
-	public void clearUnreadFor(Member target) {
-		if (target == null)
-			return;
-		if (userA != null && userA.getId().equals(target.getId())) {
-			this.unreadA = 0;
-		} else if (userB != null && userB.getId().equals(target.getId())) {
-			this.unreadB = 0;
+	public static String preview(String content) {
+		if (content == null) {
+			return null;
 		}
+		return content.length() <= PREVIEW_LENGTH ? content : content.substring(0, PREVIEW_LENGTH - 1) + "…";
 	}
 
 }
\ No newline at end of file
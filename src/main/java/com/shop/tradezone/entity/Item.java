@@ -18,16 +18,27 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(name = "item", indexes = {
+		// 상태 + 가격 → 판매중 상품 가격대 필터/가격순 정렬
+		@Index(name = "idx_item_status_price", columnList = "status, price_amount"),
+		// 품목 + 가격 → 카테고리 페이지 가격대 필터/가격순 정렬
+		@Index(name = "idx_item_category_price", columnList = "category_id, price_amount"),
+		// 커서 페이징 (created, item_id) - 메인/판매자/카테고리 목록
+		@Index(name = "idx_item_created", columnList = "created, item_id"),
+		@Index(name = "idx_item_seller_created", columnList = "seller, created, item_id"),
+		@Index(name = "idx_item_category_created", columnList = "category_id, created, item_id") })
 @Data
 @Builder
 @AllArgsConstructor
@@ -48,7 +59,9 @@ public class Item {
 	@Column(columnDefinition = "TEXT", length = 1000)
 	private String description;
 
-	private String price;
+	// 가격 (원 단위 정수) - 예전 문자열 컬럼(price)은 ItemPriceMigration 이 옮겨 준다
+	@Column(name = "price_amount")
+	private Long price;
 
 	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "category_id")
@@ -71,22 +84,28 @@ public class Item {
 	private String region;
 
 	@OneToMany(mappedBy = "item", cascade = CascadeType.ALL)
+	@Builder.Default
 	private List<ItemImg> images = new ArrayList<>();
 
 	@OneToMany(mappedBy = "item", cascade = CascadeType.ALL)
+	@Builder.Default
 	private List<Like> likes = new ArrayList<>();
 
 	@OneToMany(mappedBy = "item", cascade = CascadeType.ALL)
+	@Builder.Default
 	private List<Review> reviews = new ArrayList<>();
 
 	private LocalDateTime created;
 
-	@Column(nullable = false)
-	private int viewCount = 0;
+	// 찜 수 (likes 테이블 COUNT 대신 토글 시 같이 증감) - 벌크 UPDATE 로만 변경하므로 updatable = false
+	@Column(name = "like_count", nullable = false, updatable = false)
+	@Builder.Default
+	private int likeCount = 0;
 
-	public void increaseViewCount() {
-		this.viewCount++;
-	}
+	// 조회수는 ItemViewCounter 가 직접 증가시킨다 (엔티티 수정 시 오래된 값으로 덮어쓰지 않도록 updatable = false)
+	@Column(nullable = false, updatable = false)
+	@Builder.Default
+	private int viewCount = 0;
 
 	@PrePersist
 	public void prePersist() {
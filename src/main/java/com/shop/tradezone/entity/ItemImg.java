@@ -34,14 +34,29 @@ public class ItemImg {
 	private String imgUrl;
 
 	@Column(nullable = true)
-	private String thumbnailUrl;
+	private String thumbnailUrl; // 카드/채팅 미리보기용 (가장 작은 폭)
+
+	@Column(nullable = true)
+	private String mediumUrl; // 중간 폭
+
+	@Column(nullable = true)
+	private String largeUrl; // 상세 화면용
 
 	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "item_id")
 	private Item item;
 
 	public ItemImgDto toDto() {
-		return new ItemImgDto(id, imgName, imgUrl, thumbnailUrl);
+		return new ItemImgDto(id, imgName, imgUrl, thumbnailUrl, mediumUrl, largeUrl);
+	}
+
+	// 사이즈별 이미지가 없으면(이전 업로드) 원본으로 대체
+	public String thumbnailOrOriginal() {
+		return thumbnailUrl != null ? thumbnailUrl : imgUrl;
+	}
+
+	public String largeOrOriginal() {
+		return largeUrl != null ? largeUrl : imgUrl;
 	}
 
 }
\ No newline at end of file
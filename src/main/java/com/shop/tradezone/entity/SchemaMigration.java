@@ -0,0 +1,25 @@
+package com.shop.tradezone.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@Table(name = "schema_migration")
+@NoArgsConstructor
+public class SchemaMigration {
+
+	// 한 번만 돌면 되는 기동 시 데이터 채우기 기록 (SchemaMigrations 가 JDBC 로만 사용)
+	@Id
+	@Column(name = "id", length = 100)
+	private String id;
+
+	@Column(name = "applied_at", nullable = false)
+	private LocalDateTime appliedAt;
+}
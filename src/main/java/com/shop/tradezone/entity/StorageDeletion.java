@@ -0,0 +1,40 @@
+package com.shop.tradezone.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@Table(name = "storage_deletion", indexes = {
+		@Index(name = "idx_storage_deletion_next", columnList = "next_attempt_at") }, uniqueConstraints = {
+				@UniqueConstraint(name = "uk_storage_deletion_key", columnNames = { "object_key" }) })
+@NoArgsConstructor
+public class StorageDeletion {
+
+	// 지울 S3 객체 (outbox) - 행 삭제와 같은 트랜잭션에서 추가, StorageGarbageCollector 가 모아서 지우고 행도 지운다
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "object_key", nullable = false, length = 512)
+	private String objectKey;
+
+	@Column(name = "attempts", nullable = false)
+	private int attempts;
+
+	@Column(name = "next_attempt_at", nullable = false)
+	private LocalDateTime nextAttemptAt; // 실패하면 뒤로 미룸
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+}
@@ -55,40 +55,45 @@ public class Trade {
 
 	// ===== 상태(메인) =====
 	@Enumerated(EnumType.STRING)
-	@Column(name = "status", nullable = false, length = 24)
+	@Column(name = "status", nullable = false, length = 24, updatable = false)
 	private TradeStatus status = TradeStatus.PENDING; // 기본 진행
 
 	// ===== 보조 상태(무슨 대기인지) =====
 	@Enumerated(EnumType.STRING)
-	@Column(name = "pending_type", nullable = false, length = 16)
+	@Column(name = "pending_type", nullable = false, length = 16, updatable = false)
 	private TradePendingType pendingType = TradePendingType.NONE; // NONE/COMPLETE/CANCEL
 
 	// ===== 타임스탬프 =====
-	@Column(name = "completed_at")
+	@Column(name = "completed_at", updatable = false)
 	private LocalDateTime completedAt; // 최종 완료 시각
 
-	@Column(name = "ended_at")
+	@Column(name = "ended_at", updatable = false)
 	private LocalDateTime endedAt; // 최종 무산 시각
 
 	// 취소 사유 (선택 입력)
 	@Comment("취소 사유(선택)") // (선택) DDL 주석
-	@Column(name = "canceled_reason", length = 200)
+	@Column(name = "canceled_reason", length = 200, updatable = false)
 	private String canceledReason;
 
 	// ===== 요청 정보(대기 중임을 표현) =====
 	@ManyToOne(fetch = FetchType.LAZY)
-	@JoinColumn(name = "requested_by_id")
+	@JoinColumn(name = "requested_by_id", updatable = false)
 	private Member requestedBy; // 현재 대기 요청자(완료/취소 공용)
 
-	@Column(name = "requested_at")
+	@Column(name = "requested_at", updatable = false)
 	private LocalDateTime requestedAt;
 
 	// ===== 마지막 행위자 =====
 	@ManyToOne(fetch = FetchType.LAZY)
-	@JoinColumn(name = "last_action_by_id")
+	@JoinColumn(name = "last_action_by_id", updatable = false)
 	private Member lastActionBy;
 
-	// ===== 동시성 제어 =====
+	// ===== 전이 기록 =====
+	// 상태/요청/타임스탬프 컬럼은 TradeEngine 이 trade_event 추가와 같은 트랜잭션에서 SQL 로만 바꾼다 (엔티티로는 생성 시에만 기록)
+	@Column(name = "event_seq", nullable = false, updatable = false)
+	private long eventSeq; // 마지막으로 반영된 trade_event.seq
+
+	// ===== 동시성 제어 ===== (TradeEngine 도 갱신 시 올려서, 예전 엔티티로 덮어쓰는 일을 막음)
 	@Version
 	@Column(name = "version")
 	private Long version;
@@ -106,88 +111,6 @@ public class Trade {
 		return (buyer != null && buyer.getId().equals(memberId)) || (seller != null && seller.getId().equals(memberId));
 	}
 
-	// ================== 전이 메서드 ==================
-	// 완료 요청 → COMPLETE_REQUESTED
-	public void requestComplete(Member actor, LocalDateTime now) {
-		if (isTerminal() || isPending())
-			throw new IllegalStateException("요청 불가 상태입니다.");
-		this.status = TradeStatus.COMPLETE_REQUESTED;
-		this.pendingType = TradePendingType.COMPLETE;
-		this.requestedBy = actor;
-		this.requestedAt = now;
-		this.lastActionBy = actor;
-	}
-
-	// 완료 승인 → COMPLETED
-	public void approveComplete(Member actor, LocalDateTime now) {
-		if (this.status != TradeStatus.COMPLETE_REQUESTED || this.pendingType != TradePendingType.COMPLETE)
-			throw new IllegalStateException("완료 대기 상태가 아닙니다.");
-		if (requestedBy != null && requestedBy.getId().equals(actor.getId()))
-			throw new IllegalStateException("요청 당사자는 승인할 수 없습니다.");
-		this.status = TradeStatus.COMPLETED;
-		this.completedAt = now;
-
-		// 대기 흔적 정리
-		this.pendingType = TradePendingType.NONE;
-		this.requestedBy = null;
-		this.requestedAt = null;
-		this.lastActionBy = actor;
-	}
-
-	// 완료 거절 → 원상(여기서는 PENDING) 복귀
-	public void rejectComplete(Member actor) {
-		if (this.status != TradeStatus.COMPLETE_REQUESTED || this.pendingType != TradePendingType.COMPLETE)
-			throw new IllegalStateException("완료 대기 상태가 아닙니다.");
-		if (requestedBy != null && requestedBy.getId().equals(actor.getId()))
-			throw new IllegalStateException("요청 당사자는 거절할 수 없습니다.");
-		this.status = TradeStatus.PENDING;
-		this.pendingType = TradePendingType.NONE;
-		this.requestedBy = null;
-		this.requestedAt = null;
-		this.lastActionBy = actor;
-	}
-
-	// 취소 요청 → 상태는 PENDING 유지, pendingType=CANCEL 로 표현
-	public void requestCancel(Member actor, String reason, LocalDateTime now) {
-		if (isTerminal() || isPending())
-			throw new IllegalStateException("요청 불가 상태입니다.");
-		this.status = TradeStatus.PENDING; // 상태는 유지
-		this.pendingType = TradePendingType.CANCEL; // "취소 대기"만 보조필드로 표현
-		this.canceledReason = reason; // 대기 중 사유 미리 보관
-		this.requestedBy = actor;
-		this.requestedAt = now;
-		this.lastActionBy = actor;
-	}
-
-	// 취소 승인 → ENDED
-	public void approveCancel(Member actor, LocalDateTime now) {
-		if (this.status != TradeStatus.PENDING || this.pendingType != TradePendingType.CANCEL)
-			throw new IllegalStateException("취소 대기 상태가 아닙니다.");
-		if (requestedBy != null && requestedBy.getId().equals(actor.getId()))
-			throw new IllegalStateException("요청 당사자는 승인할 수 없습니다.");
-		this.status = TradeStatus.ENDED;
-		this.endedAt = now;
-
-		// 대기 흔적 정리
-		this.pendingType = TradePendingType.NONE;
-		this.requestedBy = null;
-		this.requestedAt = null;
-		this.lastActionBy = actor;
-	}
-
-	// 취소 거절 → 원상(PENDING) 복귀 + 사유 초기화
-	public void rejectCancel(Member actor) {
-		if (this.status != TradeStatus.PENDING || this.pendingType != TradePendingType.CANCEL)
-			throw new IllegalStateException("취소 대기 상태가 아닙니다.");
-		if (requestedBy != null && requestedBy.getId().equals(actor.getId()))
-			throw new IllegalStateException("요청 당사자는 거절할 수 없습니다.");
-		this.pendingType = TradePendingType.NONE;
-		this.canceledReason = null; // 거절 시 사유 비움
-		this.requestedBy = null;
-		this.requestedAt = null;
-		this.lastActionBy = actor;
-	}
-
 	@PrePersist
 	protected void onCreate() {
 		if (this.status == null)
@@ -0,0 +1,61 @@
+package com.shop.tradezone.entity;
+
+import java.time.LocalDateTime;
+
+import com.shop.tradezone.constant.TradeEventType;
+import com.shop.tradezone.constant.TradePendingType;
+import com.shop.tradezone.constant.TradeStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@Table(name = "trade_event", uniqueConstraints = {
+		@UniqueConstraint(name = "uk_trade_event_seq", columnNames = { "trade_id", "seq" }) })
+@NoArgsConstructor
+public class TradeEvent {
+
+	// 거래 상태 전이 기록 (추가만 함) - 저장은 TradeEventStore 가 JDBC 로 (엔티티는 조회/DDL 용)
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "trade_id", nullable = false)
+	private Long tradeId;
+
+	// 거래 안에서 1, 2, 3 ... (trade.event_seq 와 같이 올라감, 중복이면 다른 서버가 먼저 기록한 것)
+	@Column(name = "seq", nullable = false)
+	private long seq;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "type", nullable = false, length = 24)
+	private TradeEventType type;
+
+	@Column(name = "actor_id")
+	private Long actorId;
+
+	@Column(name = "reason", length = 200)
+	private String reason;
+
+	// 전이 후 상태
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", nullable = false, length = 24)
+	private TradeStatus status;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "pending_type", nullable = false, length = 16)
+	private TradePendingType pendingType;
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+}
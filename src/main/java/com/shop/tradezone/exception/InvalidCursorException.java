@@ -0,0 +1,15 @@
+package com.shop.tradezone.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.BAD_REQUEST, reason = "invalid cursor")
+public class InvalidCursorException extends IllegalArgumentException {
+
+	private static final long serialVersionUID = 1L;
+
+	public InvalidCursorException(String message) {
+		super(message);
+	}
+
+}
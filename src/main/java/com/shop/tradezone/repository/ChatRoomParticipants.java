@@ -0,0 +1,9 @@
+package com.shop.tradezone.repository;
+
+/** 채팅방 참가자 id (엔티티 로딩 없이 권한 확인용) */
+public interface ChatRoomParticipants {
+
+	Long getUserAId();
+
+	Long getUserBId();
+}
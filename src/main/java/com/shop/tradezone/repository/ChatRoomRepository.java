@@ -1,13 +1,16 @@
 package com.shop.tradezone.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.shop.tradezone.entity.ChatRoom;
 import com.shop.tradezone.entity.Item;
@@ -51,4 +54,32 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 				order by r.lastMessageAt desc
 			""")
 	Page<ChatRoom> findMyRoomsWithItemOrdered(Member me, Pageable pageable);
+
+	// 참가자 id 만 조회 (ChatMembershipCache 적재용)
+	@Query("""
+				select r.userA.id as userAId, r.userB.id as userBId
+				from ChatRoom r
+				where r.id = :roomId
+			""")
+	Optional<ChatRoomParticipants> findParticipants(@Param("roomId") Long roomId);
+
+	// 개인 알림용 방 요약 (방 여러 개를 한 번에)
+	@Query("""
+				select r.id as roomId, r.userA.id as userAId, r.userB.id as userBId,
+				       r.unreadA as unreadA, r.unreadB as unreadB, r.lastMessageId as lastMessageId,
+				       r.lastMessagePreview as lastMessagePreview, r.lastMessageAt as lastMessageAt
+				from ChatRoom r
+				where r.id in :roomIds
+			""")
+	List<ChatRoomSummary> findSummaries(@Param("roomIds") Collection<Long> roomIds);
+
+	// 채팅 목록: 상대방까지 한 번에 조회 (최신 메시지는 방에 복사된 lastMessagePreview 사용, COUNT 없음)
+	@EntityGraph(attributePaths = { "userA", "userB" })
+	@Query("""
+				select r
+				from ChatRoom r
+				where r.userA.id = :memberId or r.userB.id = :memberId
+				order by r.lastMessageAt desc, r.id desc
+			""")
+	Slice<ChatRoom> findMyRoomsWithPartners(@Param("memberId") Long memberId, Pageable pageable);
 }
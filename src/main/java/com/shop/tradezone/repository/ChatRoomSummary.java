@@ -0,0 +1,23 @@
+package com.shop.tradezone.repository;
+
+import java.time.LocalDateTime;
+
+/** 개인 알림용 방 요약 (참가자 id + 미읽음 + 최신 메시지) */
+public interface ChatRoomSummary {
+
+	Long getRoomId();
+
+	Long getUserAId();
+
+	Long getUserBId();
+
+	int getUnreadA();
+
+	int getUnreadB();
+
+	Long getLastMessageId();
+
+	String getLastMessagePreview();
+
+	LocalDateTime getLastMessageAt();
+}
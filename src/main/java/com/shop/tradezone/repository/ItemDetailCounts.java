@@ -0,0 +1,9 @@
+package com.shop.tradezone.repository;
+
+/** 상품 상세 화면용 집계 (내 찜 여부 / 판매자 상품 수) 한 번에 조회 */
+public interface ItemDetailCounts {
+
+	long getLikedByMe();
+
+	long getSellerItemCount();
+}
@@ -1,8 +1,11 @@
 package com.shop.tradezone.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.shop.tradezone.entity.ItemImg;
@@ -10,4 +13,13 @@ import com.shop.tradezone.entity.ItemImg;
 @Repository
 public interface ItemImgRepository extends JpaRepository<ItemImg, Long> {
 	List<ItemImg> findByItemId(Long itemId);
+
+	// 상품 카드 목록용: 상품별 첫 번째(가장 먼저 등록된) 이미지의 썸네일을 한 번에 조회 (N+1 방지)
+	@Query("""
+			select img.item.id as itemId, coalesce(img.thumbnailUrl, img.imgUrl) as thumbnailUrl,
+			       img.mediumUrl as mediumUrl
+			  from ItemImg img
+			 where img.id in (select min(m.id) from ItemImg m where m.item.id in :itemIds group by m.item.id)
+			""")
+	List<ItemThumbnail> findFirstThumbnails(@Param("itemIds") Collection<Long> itemIds);
 }
@@ -1,8 +1,16 @@
 package com.shop.tradezone.repository;
 
 import org.springframework.data.domain.Page;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.shop.tradezone.constant.ItemSellStatus;
@@ -21,9 +29,72 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
 
 	Page<Item> findByStatus(ItemSellStatus status, Pageable pageable);
 
-	// 부모 카테고리 ID 및 자식 카테고리 ID로 상품 조회
-	Page<Item> findByCategoryId_IdAndCategoryId_Parent_Id(Long childId, Long parentId, Pageable pageable);
+	// 상태 + 가격대 (idx_item_status_price 범위 스캔, 가격순 정렬도 인덱스 순서 그대로)
+	Page<Item> findByStatusAndPriceBetween(ItemSellStatus status, Long minPrice, Long maxPrice, Pageable pageable);
+
+	// 품목 + 가격대 (idx_item_category_price 범위 스캔)
+	Page<Item> findByCategoryId_IdAndPriceBetween(Long childId, Long minPrice, Long maxPrice, Pageable pageable);
+
+	// ===== 상품 상세 =====
+
+	// 상품 + 판매자/구매자 + 품목/구단 + 이미지를 한 번에 (지연로딩 연쇄 방지)
+	@EntityGraph(attributePaths = { "seller", "buyer", "categoryId", "categoryId.parent", "images" })
+	@Query("select i from Item i where i.id = :id")
+	Optional<Item> findDetailById(@Param("id") Long id);
+
+	// 내 찜 여부 / 판매자 상품 수를 한 번에 (memberId 가 null 이면 likedByMe = 0, 찜 수는 item.like_count)
+	@Query("""
+			select (select count(l) from Like l where l.item.id = :itemId and l.member.id = :memberId) as likedByMe,
+			       (select count(s) from Item s where s.seller.id = :sellerId) as sellerItemCount
+			  from Item i
+			 where i.id = :itemId
+			""")
+	ItemDetailCounts findDetailCounts(@Param("itemId") Long itemId, @Param("memberId") Long memberId,
+			@Param("sellerId") Long sellerId);
+
+	// ===== 찜 수 (비정규화 컬럼) =====
+
+	@Modifying
+	@Query("update Item i set i.likeCount = i.likeCount + :delta where i.id = :itemId")
+	int addLikeCount(@Param("itemId") Long itemId, @Param("delta") int delta);
+
+	@Query("select i.likeCount from Item i where i.id = :itemId")
+	Optional<Integer> findLikeCountById(@Param("itemId") Long itemId);
+
+	// 회원이 찜한 상품마다 1씩 (회원+상품 유니크라 상품당 찜은 최대 1건)
+	@Modifying
+	@Query("update Item i set i.likeCount = i.likeCount - 1 where i.id in (select l.item.id from Like l where l.member.id = :memberId)")
+	int decreaseLikeCountsByMember(@Param("memberId") Long memberId);
+
+	// ===== 커서(keyset) 페이징 : (created, id) 기준 최신순, COUNT 없음 =====
+	// created <= :created 로 인덱스 범위를 잡고, 같은 시각이면 id 로 이어받는다
+
+	@Query("""
+			select i from Item i
+			 where i.created <= :created
+			   and (i.created < :created or i.id < :id)
+			 order by i.created desc, i.id desc
+			""")
+	Slice<Item> findMainSlice(@Param("created") LocalDateTime created, @Param("id") Long id, Pageable pageable);
+
+	@Query("""
+			select i from Item i
+			 where i.seller.id = :sellerId
+			   and i.created <= :created
+			   and (i.created < :created or i.id < :id)
+			 order by i.created desc, i.id desc
+			""")
+	Slice<Item> findSellerSlice(@Param("sellerId") Long sellerId, @Param("created") LocalDateTime created,
+			@Param("id") Long id, Pageable pageable);
 
-	Page<Item> findBySellerId(Long sellerId, Pageable pageable);
+	@Query("""
+			select i from Item i
+			 where i.categoryId.id = :childId
+			   and i.created <= :created
+			   and (i.created < :created or i.id < :id)
+			 order by i.created desc, i.id desc
+			""")
+	Slice<Item> findCategorySlice(@Param("childId") Long childId, @Param("created") LocalDateTime created,
+			@Param("id") Long id, Pageable pageable);
 
 }
@@ -0,0 +1,11 @@
+package com.shop.tradezone.repository;
+
+/** 상품 카드용 대표 썸네일 (인터페이스 프로젝션) */
+public interface ItemThumbnail {
+
+	Long getItemId();
+
+	String getThumbnailUrl();
+
+	String getMediumUrl(); // 고해상도 화면용 (없으면 null)
+}
@@ -3,6 +3,9 @@ package com.shop.tradezone.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.shop.tradezone.entity.Item;
@@ -20,13 +23,28 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
 	// 토글 OFF 시 사용 (단건 삭제)
 	void deleteByItemAndMember(Item item, Member member);
 
-	// 상세 페이지 숫자 표시에 사용
+	// 찜 개수 직접 집계 (화면 표시는 item.like_count 사용)
 	int countByItem(Item item);
 
+	// 토글 ON - 이미 있으면 유니크 제약(uk_like_member_item)에 걸려 무시되고 0 반환
+	@Modifying
+	@Query(value = "insert ignore into likes (item_id, member_id) values (:itemId, :memberId)", nativeQuery = true)
+	int insertIgnore(@Param("itemId") Long itemId, @Param("memberId") Long memberId);
+
+	// 토글 OFF - 삭제된 행 수 반환 (0 이면 찜이 없던 상태)
+	@Modifying
+	@Query("delete from Like l where l.item.id = :itemId and l.member.id = :memberId")
+	int deleteByItemIdAndMemberId(@Param("itemId") Long itemId, @Param("memberId") Long memberId);
+
 	// (마이페이지 등에서 전체 목록용)
 	java.util.List<Like> findByMember(Member member);
 
-	// 아이템 삭제 시 해당 아이템의 찜 전체 삭제
-	void deleteByItem(Item item);
+	// 아이템 삭제 시 해당 아이템의 찜 전체 삭제 - 삭제된 행 수 반환 (item.like_count 에서 뺄 값)
+	long deleteByItem(Item item);
+
+	// 회원 탈퇴 시 그 회원의 찜 전체 삭제 (item.like_count 는 먼저 내려둔다)
+	@Modifying
+	@Query("delete from Like l where l.member.id = :memberId")
+	int deleteByMemberId(@Param("memberId") Long memberId);
 
 }
\ No newline at end of file
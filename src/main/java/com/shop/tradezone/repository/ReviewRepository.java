@@ -3,6 +3,8 @@ package com.shop.tradezone.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.shop.tradezone.entity.Item;
@@ -13,6 +15,10 @@ import com.shop.tradezone.entity.Review;
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 	List<Review> findByItemIdOrderByCreatedDesc(Long itemId);
 
+	// 상품 상세 리뷰목록 (작성자 함께 로딩 → 리뷰마다 회원 조회 X)
+	@Query("select r from Review r join fetch r.member where r.item.id = :itemId order by r.created desc")
+	List<Review> findWithMemberByItemId(@Param("itemId") Long itemId);
+
 	// 상품 상세 페이지 리뷰목록
 	List<Review> findByItemOrderByCreatedDesc(Item item);
 
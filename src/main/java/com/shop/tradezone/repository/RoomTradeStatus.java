@@ -0,0 +1,11 @@
+package com.shop.tradezone.repository;
+
+import com.shop.tradezone.constant.TradeStatus;
+
+/** 방 id + 연결된 거래 상태 (채팅방 목록 표시용) */
+public interface RoomTradeStatus {
+
+	Long getRoomId();
+
+	TradeStatus getStatus();
+}
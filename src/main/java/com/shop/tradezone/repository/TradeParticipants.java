@@ -0,0 +1,11 @@
+package com.shop.tradezone.repository;
+
+/** 거래 당사자 id + 연결된 방 id (엔티티 로딩 없이 구독 권한 확인용) */
+public interface TradeParticipants {
+
+	Long getRoomId();
+
+	Long getBuyerId();
+
+	Long getSellerId();
+}
@@ -1,5 +1,7 @@
 package com.shop.tradezone.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -47,4 +49,27 @@ public interface TradeRepository extends JpaRepository<Trade, Long> {
 			  and (t.buyer.id = :uid or t.seller.id = :uid)
 			""")
 	boolean canAccessTrade(@Param("tradeId") Long tradeId, @Param("uid") Long userId);
-}
\ No newline at end of file
+
+	// 당사자/방 id 만 조회 (ChatMembershipCache 적재용)
+	@Query("""
+			select t.chatRoom.id as roomId, t.buyer.id as buyerId, t.seller.id as sellerId
+			from Trade t
+			where t.id = :tradeId
+			""")
+	Optional<TradeParticipants> findParticipants(@Param("tradeId") Long tradeId);
+
+	// 방별 거래 상태 (채팅방 목록 1페이지에 1번)
+	@Query("select t.chatRoom.id as roomId, t.status as status from Trade t where t.chatRoom.id in :roomIds")
+	List<RoomTradeStatus> findStatusesByRoomIds(@Param("roomIds") Collection<Long> roomIds);
+
+	// 상태 + 당사자 id (TradeEngine 적재용)
+	@Query("""
+			select t.id as tradeId, t.chatRoom.id as roomId, t.buyer.id as buyerId, t.seller.id as sellerId,
+			       t.status as status, t.pendingType as pendingType, r.id as requestedById,
+			       t.requestedAt as requestedAt, t.canceledReason as canceledReason, t.eventSeq as eventSeq
+			from Trade t
+			left join t.requestedBy r
+			where t.id = :tradeId
+			""")
+	Optional<TradeSnapshot> findSnapshot(@Param("tradeId") Long tradeId);
+}
@@ -0,0 +1,30 @@
+package com.shop.tradezone.repository;
+
+import java.time.LocalDateTime;
+
+import com.shop.tradezone.constant.TradePendingType;
+import com.shop.tradezone.constant.TradeStatus;
+
+/** 거래 현재 상태 (TradeEngine 이 메모리에 올릴 때 1번 조회) */
+public interface TradeSnapshot {
+
+	Long getTradeId();
+
+	Long getRoomId();
+
+	Long getBuyerId();
+
+	Long getSellerId();
+
+	TradeStatus getStatus();
+
+	TradePendingType getPendingType();
+
+	Long getRequestedById();
+
+	LocalDateTime getRequestedAt();
+
+	String getCanceledReason();
+
+	long getEventSeq();
+}
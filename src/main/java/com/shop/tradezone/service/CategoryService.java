@@ -1,7 +1,13 @@
 package com.shop.tradezone.service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import com.shop.tradezone.dto.CategoryDto;
@@ -9,62 +15,118 @@ import com.shop.tradezone.entity.Category;
 import com.shop.tradezone.repository.CategoryRepository;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 카테고리 조회 - 카테고리는 거의 바뀌지 않으므로 기동 시 트리 전체를 메모리 스냅샷으로 올려 두고 조회는 DB 없이 처리 -
+ * 관리자 변경 시 reload() 호출, 그 외 DB 직접 수정 대비로 주기적 재적재
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CategoryService {
 
 	private final CategoryRepository categoryRepository;
 
-	/** 부모 카테고리 전체 조회 (1차) */
-	public List<Category> findParentCategoriesWithChildren() {
-		return categoryRepository.findByParentIsNull();
+	private volatile Snapshot snapshot;
+
+	/** 불변 스냅샷 (id → 노드, 부모 id → 자식 목록) */
+	private record Snapshot(List<CategoryDto> roots, Map<Long, CategoryDto> byId,
+			Map<Long, List<CategoryDto>> childrenByParent) {
+	}
+
+	/** 트리 재적재 (기동 시 / 관리자 변경 후 / 주기적) - 부모+자식 1 쿼리 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(fixedDelayString = "${tradezone.category.refresh-ms:600000}", initialDelayString = "${tradezone.category.refresh-ms:600000}")
+	public void reload() {
+		List<CategoryDto> roots = new ArrayList<>();
+		Map<Long, CategoryDto> byId = new HashMap<>();
+		Map<Long, List<CategoryDto>> childrenByParent = new HashMap<>();
+
+		for (Category parent : categoryRepository.findByParentIsNull()) {
+			List<CategoryDto> children = parent.getChildren().stream()
+					.map(c -> new CategoryDto(c.getId(), c.getName(), c.getImgUrl(), parent.getId(), List.of()))
+					.toList();
+			CategoryDto root = new CategoryDto(parent.getId(), parent.getName(), parent.getImgUrl(), null, children);
+
+			roots.add(root);
+			byId.put(root.getId(), root);
+			children.forEach(c -> byId.put(c.getId(), c));
+			childrenByParent.put(root.getId(), children);
+		}
+
+		this.snapshot = new Snapshot(List.copyOf(roots), Map.copyOf(byId), Map.copyOf(childrenByParent));
+		log.info("카테고리 트리 적재 - 구단 {}개, 전체 {}개", roots.size(), byId.size());
+	}
+
+	private Snapshot snapshot() {
+		Snapshot s = snapshot;
+		if (s == null) { // 기동 완료 전 요청 대비
+			synchronized (this) {
+				if (snapshot == null) {
+					reload();
+				}
+				s = snapshot;
+			}
+		}
+		return s;
+	}
+
+	private CategoryDto node(Long categoryId, String message) {
+		CategoryDto node = categoryId != null ? snapshot().byId().get(categoryId) : null;
+		if (node == null) {
+			throw new IllegalArgumentException(message);
+		}
+		return node;
+	}
+
+	/** 부모 카테고리 전체 조회 (1차, 자식 포함) */
+	public List<CategoryDto> findParentCategoriesWithChildren() {
+		return snapshot().roots();
 	}
 
 	/** 특정 부모 카테고리의 자식(2차) 카테고리 조회 */
-	public List<Category> findChildrenByParentId(Long parentId) {
-		Category parent = categoryRepository.findById(parentId)
-				.orElseThrow(() -> new IllegalArgumentException("해당 부모 카테고리가 존재하지 않습니다."));
-		return parent.getChildren();
+	public List<CategoryDto> findChildrenByParentId(Long parentId) {
+		List<CategoryDto> children = parentId != null ? snapshot().childrenByParent().get(parentId) : null;
+		if (children == null) {
+			throw new IllegalArgumentException("해당 부모 카테고리가 존재하지 않습니다.");
+		}
+		return children;
 	}
 
 	/** 자식 ID로 부모 ID 반환 */
 	public Long getParentIdByChildId(Long childId) {
-		Category child = categoryRepository.findById(childId)
-				.orElseThrow(() -> new IllegalArgumentException("해당 카테고리가 존재하지 않습니다."));
-		return (child.getParent() != null) ? child.getParent().getId() : null;
+		return node(childId, "해당 카테고리가 존재하지 않습니다.").getParentCategoryId();
 	}
 
 	/** 카테고리 이름 반환 (ID 기준) */
 	public String getCategoryNameById(Long categoryId) {
-		Category category = categoryRepository.findById(categoryId).orElseThrow(() -> new RuntimeException("카테고리 없음"));
+		CategoryDto category = categoryId != null ? snapshot().byId().get(categoryId) : null;
+		if (category == null) {
+			throw new RuntimeException("카테고리 없음");
+		}
 		return category.getName();
 	}
 
-	/** 부모 ID, 자식 ID가 연결되어 있는지 검증 및 조회 */
+	/** 부모 ID, 자식 ID가 연결되어 있는지 검증 및 조회 (검증은 스냅샷, 반환은 DB 조회 없는 참조) */
 	public Category getCategoryByParentIdAndChildId(Long parentId, Long childId) {
-		Category child = categoryRepository.findById(childId)
-				.orElseThrow(() -> new IllegalArgumentException("자식 카테고리가 존재하지 않습니다."));
+		CategoryDto child = node(childId, "자식 카테고리가 존재하지 않습니다.");
 
-		if (child.getParent() == null || !child.getParent().getId().equals(parentId)) {
+		if (child.getParentCategoryId() == null || !child.getParentCategoryId().equals(parentId)) {
 			throw new IllegalArgumentException("자식 카테고리가 해당 부모 카테고리에 속하지 않습니다.");
 		}
 
-		return child;
+		return categoryRepository.getReferenceById(childId);
 	}
 
-	/** 트리 구조 (부모 + 자식 DTO) */
-	public List<CategoryDto> getCategoryTree() {
-		List<Category> mainCategories = categoryRepository.findByParentIsNull();
-		return mainCategories.stream().map(this::toDto).toList();
+	/** 자식 카테고리가 해당 부모 아래에 있는지 (예외 없이) */
+	public boolean isChildOf(Long childId, Long parentId) {
+		CategoryDto child = childId != null ? snapshot().byId().get(childId) : null;
+		return child != null && parentId != null && parentId.equals(child.getParentCategoryId());
 	}
 
-	/** [내부용] 엔티티 → DTO 변환 */
-	private CategoryDto toDto(Category category) {
-		List<CategoryDto> childDtos = category.getChildren().stream().map(this::toDto).toList();
-
-		Long parentId = category.getParent() != null ? category.getParent().getId() : null;
-
-		return new CategoryDto(category.getId(), category.getName(), category.getImgUrl(), parentId, childDtos);
+	/** 트리 구조 (부모 + 자식 DTO) */
+	public List<CategoryDto> getCategoryTree() {
+		return snapshot().roots();
 	}
 }
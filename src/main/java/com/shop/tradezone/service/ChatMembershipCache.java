@@ -0,0 +1,128 @@
+package com.shop.tradezone.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.shop.tradezone.repository.ChatRoomRepository;
+import com.shop.tradezone.repository.TradeRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅방/거래 참가자 캐시 - 소켓 SUBSCRIBE/SEND 마다 하던 권한 COUNT 쿼리를 메모리 조회로 대체 - roomId → (userA,
+ * userB), tradeId → (roomId, buyer, seller) 를 LRU 로 최대 N 개까지 유지 - 참가자는 생성 후 바뀌지 않으므로 방/거래
+ * 생성 시 미리 넣고, 거래 종료 시 비운다 (없는 id 는 캐시하지 않음 → 생성 직후에도 바로 조회됨) - 방은 삭제/나가기가
+ * 없으므로 따로 비우지 않고 LRU 에서 밀려나게 둔다 (방 삭제가 생기면 그 경로에서 rooms 도 비울 것)
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatMembershipCache {
+
+	private final ChatRoomRepository chatRoomRepository;
+	private final TradeRepository tradeRepository;
+
+	@Value("${tradezone.chat.membership-cache-size:10000}")
+	private int maxEntries;
+
+	private Map<Long, Members> rooms;
+	private Map<Long, Members> trades;
+
+	/** 두 참가자 id (거래는 roomId 포함, A = buyer / B = seller) */
+	public record Members(Long roomId, Long userAId, Long userBId) {
+
+		public boolean contains(Long memberId) {
+			return memberId != null && (memberId.equals(userAId) || memberId.equals(userBId));
+		}
+
+		public boolean isA(Long memberId) {
+			return memberId != null && memberId.equals(userAId);
+		}
+	}
+
+	@PostConstruct
+	void init() {
+		rooms = lru(maxEntries);
+		trades = lru(maxEntries);
+	}
+
+	// accessOrder LinkedHashMap - 가장 오래 안 쓴 항목부터 제거
+	private static Map<Long, Members> lru(int max) {
+		return new LinkedHashMap<>(256, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, Members> eldest) {
+				return size() > max;
+			}
+		};
+	}
+
+	// ===== 조회 =====
+
+	public Optional<Members> room(Long roomId) {
+		if (roomId == null) {
+			return Optional.empty();
+		}
+		Members cached = get(rooms, roomId);
+		if (cached != null) {
+			return Optional.of(cached);
+		}
+		return chatRoomRepository.findParticipants(roomId).map(p -> {
+			Members m = new Members(roomId, p.getUserAId(), p.getUserBId());
+			put(rooms, roomId, m);
+			return m;
+		});
+	}
+
+	public Optional<Members> trade(Long tradeId) {
+		if (tradeId == null) {
+			return Optional.empty();
+		}
+		Members cached = get(trades, tradeId);
+		if (cached != null) {
+			return Optional.of(cached);
+		}
+		return tradeRepository.findParticipants(tradeId).map(p -> {
+			Members m = new Members(p.getRoomId(), p.getBuyerId(), p.getSellerId());
+			put(trades, tradeId, m);
+			return m;
+		});
+	}
+
+	public boolean isRoomMember(Long roomId, Long memberId) {
+		return room(roomId).map(m -> m.contains(memberId)).orElse(false);
+	}
+
+	public boolean isTradeMember(Long tradeId, Long memberId) {
+		return trade(tradeId).map(m -> m.contains(memberId)).orElse(false);
+	}
+
+	// ===== 갱신 =====
+
+	// 방 생성 직후 미리 적재
+	public void putRoom(Long roomId, Long userAId, Long userBId) {
+		put(rooms, roomId, new Members(roomId, userAId, userBId));
+	}
+
+	// 거래 종료(완료/무산) 시 - 더 이상 자주 조회되지 않으므로 비워서 자리 확보
+	public void evictTrade(Long tradeId) {
+		synchronized (trades) {
+			trades.remove(tradeId);
+		}
+	}
+
+	private static Members get(Map<Long, Members> map, Long key) {
+		synchronized (map) { // accessOrder 라 get 도 구조 변경
+			return map.get(key);
+		}
+	}
+
+	private static void put(Map<Long, Members> map, Long key, Members value) {
+		synchronized (map) {
+			map.put(key, value);
+		}
+	}
+}
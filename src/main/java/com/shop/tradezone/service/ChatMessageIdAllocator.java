@@ -0,0 +1,81 @@
+package com.shop.tradezone.service;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅 메시지 id 발급 - INSERT 전에 id 가 있어야 바로 브로드캐스트할 수 있으므로 chat_message_seq 한 행을 원자적으로 증가시켜
+ * 받는다 (테이블은 ChatMessageSeq 엔티티) - 기본(id-block-size=1)은 메시지마다 DB 에서 1개씩 → 서버가 여러 대여도 id 순서 =
+ * 발급 순서 (이력 ORDER BY id, before/after 커서, 미읽음 m.id > last_read_id 가 이 순서에 의존) - id-block-size 를 키우면
+ * 블록 단위로 미리 예약해 메모리에서 나눠준다 (hi/lo, DB 왕복 감소) → 서버마다 다른 블록을 쓰므로 서버 간 순서가 뒤섞임, 서버 1대
+ * 일 때만 사용할 것 - 재시작 시 남은 블록은 버려진다 (id 에 빈 구간이 생길 뿐)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageIdAllocator {
+
+	static final String SEQ_NAME = "chat_message"; // ChatReadReceiptBuffer 도 발급 위치를 읽음
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Value("${tradezone.chat.id-block-size:1}")
+	private int blockSize;
+
+	private volatile boolean initialized = false;
+	private long next = 0;
+	private long limit = 0; // 현재 블록의 끝 (미포함)
+
+	public long nextId() {
+		if (blockSize <= 1) {
+			return reserve(1) - 1; // 잠금 없이 매번 DB 에서 (순서는 행 잠금이 정함)
+		}
+		synchronized (this) {
+			if (next >= limit) {
+				long end = reserve(blockSize);
+				this.limit = end;
+				this.next = end - blockSize;
+				log.debug("채팅 메시지 id 블록 예약 - [{}, {})", next, limit);
+			}
+			return next++;
+		}
+	}
+
+	// n 개 예약 → 예약한 구간의 끝 (미포함)
+	private long reserve(int n) {
+		if (!initialized) {
+			initialize();
+		}
+		// UPDATE 와 LAST_INSERT_ID() 조회는 같은 커넥션이어야 한다
+		return jdbcTemplate.execute((ConnectionCallback<Long>) con -> {
+			try (Statement st = con.createStatement()) {
+				st.executeUpdate("update chat_message_seq set next_id = last_insert_id(next_id + " + n
+						+ ") where name = '" + SEQ_NAME + "'");
+				try (ResultSet rs = st.executeQuery("select last_insert_id()")) {
+					rs.next();
+					return rs.getLong(1);
+				}
+			}
+		});
+	}
+
+	private synchronized void initialize() {
+		if (initialized) {
+			return;
+		}
+		// 처음 한 번: 기존 메시지 최대 id 다음부터 (이미 있으면 그대로)
+		jdbcTemplate.update("""
+				insert ignore into chat_message_seq (name, next_id)
+				select ?, coalesce(max(id), 0) + 1 from chat_message
+				""", SEQ_NAME);
+		initialized = true;
+	}
+}
@@ -1,29 +1,32 @@
 package com.shop.tradezone.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.shop.tradezone.dto.ChatMessageDto; // ← 프로젝트의 실제 패키지에 맞춤
+import com.shop.tradezone.dto.CursorSliceDto;
 import com.shop.tradezone.entity.ChatMessage;
-import com.shop.tradezone.entity.ChatRoom;
-import com.shop.tradezone.entity.Member;
 import com.shop.tradezone.repository.ChatMessageRepository;
 import com.shop.tradezone.repository.ChatRoomRepository;
-import com.shop.tradezone.repository.MemberRepository;
+import com.shop.tradezone.service.ChatMembershipCache.Members;
+import com.shop.tradezone.service.ChatMessageWriter.PendingMessage;
+import com.shop.tradezone.websocket.PresenceRegistry;
 
 import lombok.RequiredArgsConstructor;
 
 /**
- * 채팅 메시지 비즈니스 로직 - 메시지 저장 - 방 메타(lastMessageAt / unread) 갱신 - 메시지 페이지 조회 -
- * (트랜잭션 커밋 후) 소켓 브로드캐스트
+ * 채팅 메시지 비즈니스 로직 - 메시지 검증 + id 발급 후 즉시 소켓 브로드캐스트 - 저장/방 메타(lastMessageAt / unread)
+ * 갱신은 ChatMessageWriter 가 배치로 처리 - 메시지 커서 조회 - 읽음 처리는 모아서 반영 - 참가자가 아니면 AccessDeniedException
+ * (HTTP 403, STOMP 는 /user/queue/errors)
  */
 @Service
 @RequiredArgsConstructor
@@ -31,26 +34,25 @@ public class ChatMessageService {
 
 	private final ChatMessageRepository chatMessageRepository;
 	private final ChatRoomRepository chatRoomRepository;
-	private final MemberRepository memberRepository;
+	private final ChatMessageIdAllocator idAllocator;
+	private final ChatMessageWriter chatMessageWriter;
+	private final ChatMembershipCache membershipCache; // 참가자 확인은 메모리에서
+	private final ChatReadReceiptBuffer readReceiptBuffer;
+	private final PresenceRegistry presenceRegistry; // 상대가 방을 보고 있는지
 	private final SimpMessagingTemplate messagingTemplate; // /topic 브로드캐스트용
 
 	// 공용 로더
 
-	private ChatRoom loadRoom(Long roomId) {
-		return chatRoomRepository.findById(roomId)
+	private Members loadParticipants(Long roomId) {
+		return membershipCache.room(roomId)
 				.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 채팅방입니다. id=" + roomId));
 	}
 
-	private Member loadMember(Long memberId) {
-		return memberRepository.findById(memberId)
-				.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다. id=" + memberId));
-	}
-
 	/// 1) 텍스트 메시지 전송
 
-	// 1) content 정제/검증 2) 방/보낸이 검증 3) 저장 + 방 메타 갱신 4) 트랜잭션 커밋 후 브로드캐스트
+	// 1) content 정제/검증 2) 방 참가자 검증 (캐시) 3) id 발급 + WAL 기록 4) 즉시 브로드캐스트
+	// DB 저장(INSERT + 방 메타)은 ChatMessageWriter 가 모아서 처리
 
-	@Transactional
 	public ChatMessageDto sendText(Long roomId, Long senderId, String content) {
 		// 1) content 정제/검증
 		content = (content == null) ? "" : content.strip();
@@ -58,90 +60,74 @@ public class ChatMessageService {
 			throw new IllegalArgumentException("메시지 내용이 비어 있습니다.");
 
 		// 2) 방/보낸이 검증
-		ChatRoom room = loadRoom(roomId);
-		Member sender = loadMember(senderId);
-
-		boolean senderIsA = sender.getId().equals(room.getUserA().getId());
-		boolean senderIsB = sender.getId().equals(room.getUserB().getId());
-		if (!senderIsA && !senderIsB) {
-			throw new IllegalStateException("해당 채팅방의 참가자가 아닙니다.");
+		Members room = loadParticipants(roomId);
+		if (!room.contains(senderId)) {
+			throw new AccessDeniedException("해당 채팅방의 참가자가 아닙니다.");
 		}
 
-		// 3) 저장 (+ 기본 type=TEXT)
-		ChatMessage msg = ChatMessage.builder().chatRoom(room) // 엔티티 필드명이 chatRoom 이어야 합니다.
-				.sender(sender).content(content)
-				// .type("TEXT") // @Builder.Default 로 기본값이면 생략 가능
-				.build();
-		chatMessageRepository.save(msg);
-
-		// 방 메타 갱신
-		room.setLastMessageAt(LocalDateTime.now());
-		if (senderIsA)
-			room.setUnreadB(room.getUnreadB() + 1);
-		else
-			room.setUnreadA(room.getUnreadA() + 1);
-
-		// 4) 커밋 후 브로드캐스트
-		ChatMessageDto dto = new ChatMessageDto(msg);
-		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-			@Override
-			public void afterCommit() {
-				messagingTemplate.convertAndSend("/topic/chat." + roomId, dto);
-			}
-		});
-		return dto;
+		// 3) 저장 예약 → 4) 브로드캐스트 (상대가 지금 방을 보고 있으면 바로 읽은 것으로 → 미읽음 증가 X)
+		boolean senderIsA = room.isA(senderId);
+		Long recipientId = senderIsA ? room.userBId() : room.userAId();
+		return publish(roomId, senderId, content, "TEXT", senderIsA, presenceRegistry.isViewing(roomId, recipientId));
 	}
 
 	// 2) 시스템 메시지 전송
 
-	// 시스템 메시지 전송 (ex. 거래 상태 변경 안내 등) - sender 를 null 로 저장하려면 ChatMessage.sender 의
-	// JoinColumn(nullable=true) 필요 또는 "시스템 사용자" 계정을 하나 두고 그 ID로 저장하세요.
-	@Transactional
+	// 시스템 메시지 전송 (ex. 거래 상태 변경 안내 등) - sender 는 null 로 저장
 	public ChatMessageDto sendSystem(Long roomId, String content) {
 		if (content == null || content.isBlank())
 			return null;
 
-		ChatRoom room = loadRoom(roomId);
-
-		ChatMessage msg = ChatMessage.builder().chatRoom(room).sender(null) // nullable=true 가 아니면 시스템 사용자로 대체
-				.content(content).type("SYSTEM").build();
-		chatMessageRepository.save(msg);
-
-		room.setLastMessageAt(LocalDateTime.now());
+		loadParticipants(roomId); // 방 존재 확인
 		// 시스템 메시지는 미읽음 증가 X (정책에 따라 변경 가능)
+		return publish(roomId, null, content, "SYSTEM", null, false);
+	}
 
-		ChatMessageDto dto = new ChatMessageDto(msg);
-		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-			@Override
-			public void afterCommit() {
-				messagingTemplate.convertAndSend("/topic/chat." + roomId, dto);
-			}
-		});
+	private ChatMessageDto publish(Long roomId, Long senderId, String content, String type, Boolean senderIsA,
+			boolean recipientViewing) {
+		PendingMessage message = new PendingMessage(idAllocator.nextId(), roomId, senderId, content, type,
+				LocalDateTime.now(), senderIsA, recipientViewing);
+		chatMessageWriter.append(message); // WAL 기록 후에만 내보낸다
+
+		ChatMessageDto dto = ChatMessageDto.builder().id(message.id()).roomId(roomId).senderId(senderId)
+				.content(content).type(type).createdAt(message.createdAt()).build();
+		messagingTemplate.convertAndSend("/topic/chat." + roomId, dto);
 		return dto;
 	}
 
-	// 3) 메시지 페이지 조회 (오래된 → 최신)
-
+	// 3) 메시지 커서 조회 (최신 → 과거, COUNT 없음)
+	// - before: 이 id 보다 오래된 메시지 (null 이면 가장 최근부터), nextCursor = 받은 것 중 가장 오래된 id
+	// - after : 이 id 이후 메시지 (재접속 시 빈 구간 채우기), nextCursor = 받은 것 중 가장 최신 id
 	@Transactional(readOnly = true)
-	public Page<ChatMessageDto> getMessages(Long roomId, int page, int size) {
-		ChatRoom room = loadRoom(roomId);
-		Pageable pageable = PageRequest.of(page, size);
-		return chatMessageRepository.findByChatRoom_IdOrderByCreatedAtAsc(room.getId(), pageable)
-				.map(ChatMessageDto::new);
+	public CursorSliceDto<ChatMessageDto> getHistory(Long roomId, Long memberId, Long before, Long after, int size) {
+		if (!membershipCache.isRoomMember(roomId, memberId)) {
+			throw new AccessDeniedException("해당 채팅방의 참가자가 아닙니다.");
+		}
+
+		Pageable limit = PageRequest.of(0, size + 1); // 1건 더 읽어서 다음 페이지 여부 판단
+		List<ChatMessage> rows = new ArrayList<>(after != null
+				? chatMessageRepository.findSliceAfter(roomId, after, limit)
+				: chatMessageRepository.findSlice(roomId, before, limit));
+
+		boolean hasNext = rows.size() > size;
+		if (hasNext) {
+			rows = rows.subList(0, size);
+		}
+		String next = hasNext ? String.valueOf(rows.get(rows.size() - 1).getId()) : null;
+		if (after != null) {
+			Collections.reverse(rows); // 응답은 항상 최신 → 과거
+		}
+		return new CursorSliceDto<>(rows.stream().map(ChatMessageDto::new).toList(), next, hasNext);
 	}
 
-	// 4) 읽음 처리
-	@Transactional
-	public void clearUnread(Long roomId, Long viewerId) {
-		ChatRoom room = loadRoom(roomId);
-		Member viewer = loadMember(viewerId);
-
-		if (viewer.getId().equals(room.getUserA().getId())) {
-			room.setUnreadA(0);
-		} else if (viewer.getId().equals(room.getUserB().getId())) {
-			room.setUnreadB(0);
-		} else {
-			throw new IllegalStateException("해당 채팅방의 참가자가 아닙니다.");
+	// 4) 읽음 처리 - 참가자 확인(캐시) 후 버퍼에만 기록, DB 는 ChatReadReceiptBuffer 가 주기적으로 방 1행 UPDATE
+	// lastReadId 가 없으면 저장된 최신 메시지까지 읽음
+	public void markRead(Long roomId, Long viewerId, Long lastReadId) {
+		Members room = loadParticipants(roomId);
+		if (!room.contains(viewerId)) {
+			throw new AccessDeniedException("해당 채팅방의 참가자가 아닙니다.");
 		}
+		readReceiptBuffer.mark(roomId, room.isA(viewerId),
+				lastReadId != null ? lastReadId : ChatReadReceiptBuffer.LATEST);
 	}
 }
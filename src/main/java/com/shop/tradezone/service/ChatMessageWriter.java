@@ -0,0 +1,398 @@
+package com.shop.tradezone.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.tradezone.dto.ChatRoomsUpdatedEvent;
+import com.shop.tradezone.entity.ChatRoom;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅 메시지 저장 (write-behind) - 전송 시에는 로컬 로그 파일(WAL)에만 기록하고 바로 응답/브로드캐스트 - WAL fsync 는 group
+ * commit (잠금 안에서는 append 만, fsync 는 그 사이 쌓인 기록을 한 번에 → 동시에 보낸 메시지들이 fsync 1번을 나눠 씀) - 주기적으로
+ * 모아서 여러 행 INSERT 1번 + 방마다 메타 UPDATE 1번으로 DB 반영 - DB 장애로 반영이 밀리면 max-pending 까지만 받고 이후 전송은
+ * 거절 (힙 무한 증가 X) - 반영이 끝난 로그 파일은 지우고, 서버가 중간에 죽으면 기동 시 남은 로그를 다시 반영한다 (반영 커밋 후 로그
+ * 삭제 전에 죽었을 수 있으므로 이미 들어간 id 는 걸러내고 반영 → 메시지/미읽음 중복 X)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageWriter {
+
+	// 여러 행 INSERT 한 번에 넣을 최대 행 수 (패킷 크기 제한 대비)
+	private static final int INSERT_CHUNK = 200;
+
+	private static final String INSERT_PREFIX = "insert ignore into chat_message "
+			+ "(id, room_id, sender_id, content, type, created_at, delivered, read_bya, read_byb) values ";
+	private static final String INSERT_ROW = "(?, ?, ?, ?, ?, ?, true, ?, ?)";
+
+	// 보낸 사람(그리고 방을 보고 있던 받는 사람)은 그 메시지까지 읽은 것으로 lastReadId 를 올리고, 미읽음은 상대의 lastReadId 이후 개수로 유지
+	// - 보통은 이번 배치의 상대 메시지가 모두 lastReadId 이후 → 개수만 더함
+	// - 이미 일부를 읽었으면(브로드캐스트로 먼저 보고 읽음 처리) 그때만 다시 COUNT
+	// - 미읽음 계산을 lastReadId 갱신보다 먼저 두고 갱신될 값(greatest)을 직접 써서 SET 순서에 의존하지 않음
+	// - 최신 메시지는 더 큰 id 일 때만 교체 (last_message_id 는 조건에 쓰이므로 마지막에 SET)
+	private static final String UPDATE_ROOM = """
+			update chat_room
+			   set unreada = if(greatest(last_read_ida, ?) < ?, unreada + ?,
+			                    (select count(*) from chat_message m
+			                      where m.room_id = chat_room.id and m.sender_id = chat_room.user_b_id
+			                        and m.id > greatest(chat_room.last_read_ida, ?))),
+			       unreadb = if(greatest(last_read_idb, ?) < ?, unreadb + ?,
+			                    (select count(*) from chat_message m
+			                      where m.room_id = chat_room.id and m.sender_id = chat_room.user_a_id
+			                        and m.id > greatest(chat_room.last_read_idb, ?))),
+			       last_read_ida = greatest(last_read_ida, ?),
+			       last_read_idb = greatest(last_read_idb, ?),
+			       last_message_preview = if(coalesce(last_message_id, 0) < ?, ?, last_message_preview),
+			       last_message_at = if(coalesce(last_message_id, 0) < ?, ?, last_message_at),
+			       last_message_id = greatest(coalesce(last_message_id, 0), ?)
+			 where id = ?
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final ObjectMapper objectMapper;
+	private final ApplicationEventPublisher eventPublisher; // 반영 후 개인 알림
+
+	@Value("${tradezone.chat.wal-dir:./data/chat-wal}")
+	private String walDir;
+
+	@Value("${tradezone.chat.wal-fsync:true}")
+	private boolean fsync;
+
+	// 반영 대기(+ 반영 중) 메시지 상한 - 넘으면 전송 거절
+	@Value("${tradezone.chat.max-pending:50000}")
+	private int maxPending;
+
+	// 아직 DB 에 반영되지 않은 메시지 (WAL 기록 순서 = id 순서)
+	private List<PendingMessage> pending = new ArrayList<>();
+	private int inFlight = 0; // flush 가 꺼내 가서 반영 중인 건수
+
+	// group commit - appendedSeq 는 this, syncedSeq 는 syncLock 으로 보호
+	private long appendedSeq = 0;
+	private long syncedSeq = 0;
+	private final Object syncLock = new Object();
+
+	// 현재 기록 중인 WAL 세그먼트 + 반영 실패로 남겨둔 이전 세그먼트들
+	private FileChannel segment;
+	private Path segmentPath;
+	private final List<Path> retainedSegments = new ArrayList<>();
+	private long segmentSeq = 0;
+
+	/**
+	 * 저장 대기 메시지 (senderIsA 가 null 이면 시스템 메시지 → 미읽음 증가 X, recipientViewing 이면 받는 사람도 읽은 것으로)
+	 */
+	public record PendingMessage(long id, long roomId, Long senderId, String content, String type,
+			LocalDateTime createdAt, Boolean senderIsA, boolean recipientViewing) {
+	}
+
+	@PostConstruct
+	void recover() throws IOException {
+		Path dir = Paths.get(walDir);
+		Files.createDirectories(dir);
+
+		List<Path> leftovers;
+		try (Stream<Path> files = Files.list(dir)) {
+			leftovers = files.filter(p -> p.getFileName().toString().endsWith(".wal")).sorted().toList();
+		}
+		for (Path path : leftovers) {
+			List<PendingMessage> messages = notPersisted(readSegment(path));
+			if (!messages.isEmpty()) {
+				persist(messages);
+				log.info("채팅 WAL 복구 - {} ({}건)", path.getFileName(), messages.size());
+			}
+			Files.delete(path);
+		}
+
+		openSegment();
+	}
+
+	// 1건 기록 (WAL 에 기록되고 fsync 까지 끝난 뒤 반환 → 이후 브로드캐스트해도 유실 X)
+	public void append(PendingMessage message) {
+		byte[] line;
+		try {
+			line = (objectMapper.writeValueAsString(message) + "\n").getBytes(StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new UncheckedIOException("채팅 메시지 기록 실패", e);
+		}
+
+		long seq;
+		synchronized (this) {
+			if (pending.size() + inFlight >= maxPending) {
+				throw new IllegalStateException("메시지 저장이 지연되고 있습니다. 잠시 후 다시 보내 주세요.");
+			}
+			try {
+				ByteBuffer buffer = ByteBuffer.wrap(line);
+				while (buffer.hasRemaining()) {
+					segment.write(buffer);
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException("채팅 메시지 기록 실패", e);
+			}
+			pending.add(message);
+			seq = ++appendedSeq;
+		}
+
+		if (fsync) {
+			awaitDurable(seq);
+		}
+	}
+
+	// group commit - 먼저 들어온 스레드가 그때까지 append 된 것 전부를 fsync, 기다리던 스레드는 이미 포함됐으면 바로 반환
+	private void awaitDurable(long seq) {
+		synchronized (syncLock) {
+			if (syncedSeq >= seq) {
+				return;
+			}
+			FileChannel channel;
+			long upTo;
+			synchronized (this) {
+				channel = segment;
+				upTo = appendedSeq;
+			}
+			try {
+				channel.force(false);
+			} catch (ClosedChannelException e) {
+				// 그 사이 세그먼트가 교체됨 - 닫기 전에 fsync 했고, 새 세그먼트엔 upTo 까지의 기록이 없음
+			} catch (IOException e) {
+				throw new UncheckedIOException("채팅 메시지 기록 실패", e);
+			}
+			syncedSeq = upTo;
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${tradezone.chat.flush-ms:100}")
+	public void flush() {
+		List<PendingMessage> batch;
+		Path flushedSegment;
+		synchronized (this) {
+			if (pending.isEmpty()) {
+				return;
+			}
+			batch = pending;
+			pending = new ArrayList<>();
+			inFlight = batch.size();
+			flushedSegment = rotateSegment();
+		}
+
+		Set<Long> roomIds;
+		try {
+			roomIds = persist(batch);
+		} catch (RuntimeException e) {
+			log.error("채팅 메시지 저장 실패 - {}건 다음 주기에 재시도", batch.size(), e);
+			synchronized (this) {
+				batch.addAll(pending); // 순서 유지: 실패분이 앞 (합계는 max-pending 이내 - append 에서 거절)
+				pending = batch;
+				inFlight = 0;
+				retainedSegments.add(flushedSegment);
+			}
+			return;
+		}
+
+		// 성공 → 이번 세그먼트와 이전 실패분 세그먼트 모두 반영 완료
+		List<Path> done;
+		synchronized (this) {
+			inFlight = 0;
+			done = new ArrayList<>(retainedSegments);
+			retainedSegments.clear();
+		}
+		done.add(flushedSegment);
+		done.forEach(this::deleteQuietly);
+
+		try {
+			eventPublisher.publishEvent(ChatRoomsUpdatedEvent.messages(roomIds));
+		} catch (RuntimeException e) {
+			log.warn("채팅 알림 전송 실패 - 방 {}개", roomIds.size(), e); // 알림은 best-effort (저장은 이미 완료)
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		flush();
+		synchronized (this) {
+			try {
+				segment.close();
+				if (pending.isEmpty() && retainedSegments.isEmpty()) {
+					Files.deleteIfExists(segmentPath);
+				}
+			} catch (IOException e) {
+				log.warn("채팅 WAL 닫기 실패", e);
+			}
+		}
+	}
+
+	// 여러 행 INSERT + 방별 메타 UPDATE 를 한 트랜잭션으로 → 반영된 방 id
+	private Set<Long> persist(List<PendingMessage> batch) {
+		Map<Long, RoomDelta> rooms = new LinkedHashMap<>();
+		for (PendingMessage m : batch) {
+			rooms.computeIfAbsent(m.roomId(), id -> new RoomDelta()).add(m);
+		}
+
+		transactionTemplate.executeWithoutResult(status -> {
+			for (int from = 0; from < batch.size(); from += INSERT_CHUNK) {
+				insertRows(batch.subList(from, Math.min(from + INSERT_CHUNK, batch.size())));
+			}
+
+			List<Object[]> updates = new ArrayList<>(rooms.size());
+			rooms.forEach((roomId, d) -> updates.add(new Object[] { //
+					d.readA, d.b.minId, d.b.count, d.readA, // unreada (B 가 보낸 것)
+					d.readB, d.a.minId, d.a.count, d.readB, // unreadb (A 가 보낸 것)
+					d.readA, d.readB, //
+					d.last.id(), ChatRoom.preview(d.last.content()), d.last.id(),
+					Timestamp.valueOf(d.last.createdAt()), d.last.id(), roomId }));
+			jdbcTemplate.batchUpdate(UPDATE_ROOM, updates);
+		});
+		return rooms.keySet();
+	}
+
+	// 이미 DB 에 있는 메시지 제외 - 방 UPDATE 는 미읽음을 더하므로 같은 메시지를 두 번 반영하면 안 됨 (기동 시 1번, 다른 쓰기 전)
+	private List<PendingMessage> notPersisted(List<PendingMessage> messages) {
+		Set<Long> existing = new HashSet<>();
+		for (int from = 0; from < messages.size(); from += INSERT_CHUNK) {
+			List<PendingMessage> chunk = messages.subList(from, Math.min(from + INSERT_CHUNK, messages.size()));
+			String in = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+			existing.addAll(jdbcTemplate.queryForList("select id from chat_message where id in (" + in + ")", Long.class,
+					chunk.stream().map(PendingMessage::id).toArray()));
+		}
+		return existing.isEmpty() ? messages : messages.stream().filter(m -> !existing.contains(m.id())).toList();
+	}
+
+	private void insertRows(List<PendingMessage> rows) {
+		StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+		List<Object> args = new ArrayList<>(rows.size() * 8);
+		for (int i = 0; i < rows.size(); i++) {
+			PendingMessage m = rows.get(i);
+			sql.append(i == 0 ? "" : ", ").append(INSERT_ROW);
+			boolean readByA = Boolean.TRUE.equals(m.senderIsA()); // 보낸 사람은 읽음
+			boolean readByB = Boolean.FALSE.equals(m.senderIsA());
+			args.add(m.id());
+			args.add(m.roomId());
+			args.add(m.senderId());
+			args.add(m.content());
+			args.add(m.type());
+			args.add(Timestamp.valueOf(m.createdAt()));
+			args.add(readByA);
+			args.add(readByB);
+		}
+		jdbcTemplate.update(sql.toString(), args.toArray());
+	}
+
+	// 방 하나에 대한 이번 배치의 변화량
+	private static class RoomDelta {
+		final Sent a = new Sent(); // A 가 보낸 메시지
+		final Sent b = new Sent();
+		long readA; // 이번 배치로 A 가 읽은 것이 확실한 최대 id (보냈거나, 보고 있을 때 받은 메시지)
+		long readB;
+		PendingMessage last;
+
+		void add(PendingMessage m) {
+			if (Boolean.TRUE.equals(m.senderIsA())) {
+				a.add(m.id());
+				readA = Math.max(readA, m.id());
+				if (m.recipientViewing()) {
+					readB = Math.max(readB, m.id());
+				}
+			} else if (Boolean.FALSE.equals(m.senderIsA())) {
+				b.add(m.id());
+				readB = Math.max(readB, m.id());
+				if (m.recipientViewing()) {
+					readA = Math.max(readA, m.id());
+				}
+			}
+			if (last == null || m.id() > last.id()) {
+				last = m;
+			}
+		}
+	}
+
+	// 한 참가자가 보낸 메시지 수 + 가장 작은 id (없으면 MAX → 항상 "전부 lastReadId 이후")
+	private static class Sent {
+		int count;
+		long minId = Long.MAX_VALUE;
+
+		void add(long id) {
+			count++;
+			minId = Math.min(minId, id);
+		}
+	}
+
+	// ===== WAL 세그먼트 =====
+
+	private void openSegment() throws IOException {
+		segmentPath = Paths.get(walDir, String.format("%d-%06d.wal", System.currentTimeMillis(), segmentSeq++));
+		segment = FileChannel.open(segmentPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.APPEND);
+	}
+
+	// 현재 세그먼트를 닫고 새 세그먼트로 교체 → 닫은 세그먼트 경로 반환 (닫기 전에 fsync → group commit 대기자도 포함)
+	private Path rotateSegment() {
+		Path closed = segmentPath;
+		try {
+			if (fsync) {
+				segment.force(false);
+			}
+			segment.close();
+			openSegment();
+		} catch (IOException e) {
+			throw new UncheckedIOException("채팅 WAL 교체 실패", e);
+		}
+		return closed;
+	}
+
+	private List<PendingMessage> readSegment(Path path) throws IOException {
+		List<PendingMessage> messages = new ArrayList<>();
+		try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.isBlank()) {
+					continue;
+				}
+				try {
+					messages.add(objectMapper.readValue(line, PendingMessage.class));
+				} catch (IOException e) {
+					log.warn("채팅 WAL 손상된 줄 건너뜀 - {}", path.getFileName()); // 기록 도중 종료된 마지막 줄
+				}
+			}
+		}
+		return messages;
+	}
+
+	private void deleteQuietly(Path path) {
+		try {
+			Files.deleteIfExists(path);
+		} catch (IOException e) {
+			log.warn("채팅 WAL 삭제 실패 - {}", path, e);
+		}
+	}
+}
@@ -0,0 +1,59 @@
+package com.shop.tradezone.service;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+import com.shop.tradezone.dto.ChatNotificationDto;
+import com.shop.tradezone.dto.ChatRoomsUpdatedEvent;
+import com.shop.tradezone.repository.ChatRoomRepository;
+import com.shop.tradezone.repository.ChatRoomSummary;
+import com.shop.tradezone.websocket.PresenceRegistry;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅 개인 알림 - 메시지/읽음이 DB 에 반영(커밋)된 뒤 방 요약을 한 번에 읽어서 참가자별 /user/queue/notifications 로
+ * 전송 - 채팅 목록은 소켓 하나로 방 한 줄씩 갱신 - 새 메시지 알림은 그 방을 보고 있는 사람에게는 보내지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatNotificationService {
+
+	private static final String DESTINATION = "/queue/notifications";
+
+	private final ChatRoomRepository chatRoomRepository;
+	private final PresenceRegistry presenceRegistry;
+	private final SimpMessagingTemplate messagingTemplate;
+
+	@EventListener
+	public void onRoomsUpdated(ChatRoomsUpdatedEvent event) {
+		if (event.roomIds().isEmpty()) {
+			return;
+		}
+		for (ChatRoomSummary room : chatRoomRepository.findSummaries(event.roomIds())) {
+			if (event.readerIsA() == null) {
+				notifyUnlessViewing(room, true);
+				notifyUnlessViewing(room, false);
+			} else {
+				send(room, event.readerIsA()); // 읽은 사람의 다른 탭/목록 뱃지 갱신
+			}
+		}
+	}
+
+	private void notifyUnlessViewing(ChatRoomSummary room, boolean toA) {
+		Long memberId = toA ? room.getUserAId() : room.getUserBId();
+		if (!presenceRegistry.isViewing(room.getRoomId(), memberId)) {
+			send(room, toA);
+		}
+	}
+
+	// 사용자 이름 = 회원 id (MemberAuthentication)
+	private void send(ChatRoomSummary room, boolean toA) {
+		ChatNotificationDto dto = ChatNotificationDto.builder().event("ROOM_UPDATED").roomId(room.getRoomId())
+				.unread(toA ? room.getUnreadA() : room.getUnreadB()).lastMessageId(room.getLastMessageId())
+				.preview(room.getLastMessagePreview()).lastMessageAt(room.getLastMessageAt()).build();
+		Long memberId = toA ? room.getUserAId() : room.getUserBId();
+		messagingTemplate.convertAndSendToUser(String.valueOf(memberId), DESTINATION, dto);
+	}
+}
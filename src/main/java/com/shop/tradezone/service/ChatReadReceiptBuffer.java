@@ -0,0 +1,110 @@
+package com.shop.tradezone.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.shop.tradezone.dto.ChatRoomsUpdatedEvent;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽음 처리 모아서 반영 - 스크롤/포커스마다 오는 읽음 이벤트는 (방, 참가자) 별 최대 메시지 id 만 메모리에 남긴다 - 주기마다
+ * 방 1행 UPDATE 로 lastReadId(high-water mark) 를 올리고 미읽음 수를 그 이후 상대 메시지 개수로 다시 계산
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatReadReceiptBuffer {
+
+	/** 읽은 id 를 모를 때 (→ 발급된 최신 메시지까지 읽음) */
+	public static final long LATEST = Long.MAX_VALUE;
+
+	private static final String UPDATE_A = readSql("a", "b");
+	private static final String UPDATE_B = readSql("b", "a");
+
+	private final JdbcTemplate jdbcTemplate;
+	private final ApplicationEventPublisher eventPublisher; // 반영 후 읽은 사람에게 개인 알림
+
+	// (roomId, A 여부) → 읽은 최대 id
+	private final Map<ReadKey, Long> marks = new ConcurrentHashMap<>();
+
+	private record ReadKey(long roomId, boolean sideA) {
+	}
+
+	// 읽은 id 는 지금까지 발급된 id 를 넘을 수 없다 (없는 미래 메시지까지 읽음 처리 방지)
+	// - DB 의 last_message_id 가 아니라 발급 위치로 자름 → 아직 WAL 에만 있는(반영 전) 메시지를 읽은 것도 잃지 않음
+	// 미읽음 계산을 lastReadId 갱신보다 먼저 두고, 갱신될 값(greatest)을 직접 써서 SET 순서에 의존하지 않음
+	private static String readSql(String self, String other) {
+		String issued = "coalesce((select s.next_id - 1 from chat_message_seq s where s.name = '"
+				+ ChatMessageIdAllocator.SEQ_NAME + "'), chat_room.last_message_id, 0)";
+		String mark = "greatest(chat_room.last_read_id" + self + ", least(?, " + issued + "))";
+		return "update chat_room"
+				+ "   set unread" + self + " = (select count(*) from chat_message m"
+				+ "                 where m.room_id = chat_room.id and m.sender_id = chat_room.user_" + other + "_id"
+				+ "                   and m.id > " + mark + "),"
+				+ "       last_read_id" + self + " = " + mark
+				+ " where id = ?";
+	}
+
+	public void mark(long roomId, boolean sideA, long lastReadId) {
+		marks.merge(new ReadKey(roomId, sideA), lastReadId, Math::max);
+	}
+
+	@Scheduled(fixedDelayString = "${tradezone.chat.read-flush-ms:1000}")
+	public void flush() {
+		if (marks.isEmpty()) {
+			return;
+		}
+		// remove 로 하나씩 꺼냄 → 꺼낸 뒤 들어온 읽음은 다음 주기에 반영
+		List<Object[]> updatesA = new ArrayList<>();
+		List<Object[]> updatesB = new ArrayList<>();
+		for (ReadKey key : marks.keySet()) {
+			Long id = marks.remove(key);
+			if (id != null) {
+				(key.sideA() ? updatesA : updatesB).add(new Object[] { id, id, key.roomId() });
+			}
+		}
+
+		try {
+			if (!updatesA.isEmpty()) {
+				jdbcTemplate.batchUpdate(UPDATE_A, updatesA);
+			}
+			if (!updatesB.isEmpty()) {
+				jdbcTemplate.batchUpdate(UPDATE_B, updatesB);
+			}
+		} catch (RuntimeException e) {
+			log.warn("읽음 처리 반영 실패 - {}건 다음 주기에 재시도", updatesA.size() + updatesB.size(), e);
+			updatesA.forEach(u -> mark((Long) u[2], true, (Long) u[0]));
+			updatesB.forEach(u -> mark((Long) u[2], false, (Long) u[0]));
+			return;
+		}
+		publish(updatesA, true);
+		publish(updatesB, false);
+	}
+
+	private void publish(List<Object[]> updates, boolean sideA) {
+		if (updates.isEmpty()) {
+			return;
+		}
+		try {
+			eventPublisher.publishEvent(
+					ChatRoomsUpdatedEvent.read(updates.stream().map(u -> (Long) u[2]).toList(), sideA));
+		} catch (RuntimeException e) {
+			log.warn("읽음 알림 전송 실패", e); // 알림은 best-effort
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		flush();
+	}
+}
@@ -1,23 +1,25 @@
 package com.shop.tradezone.service;
 
-import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.shop.tradezone.constant.TradeStatus;
 import com.shop.tradezone.dto.ChatRoomListDto;
-import com.shop.tradezone.entity.ChatMessage;
 import com.shop.tradezone.entity.ChatRoom;
 import com.shop.tradezone.entity.Item;
 import com.shop.tradezone.entity.Member;
-import com.shop.tradezone.repository.ChatMessageRepository;
 import com.shop.tradezone.repository.ChatRoomRepository;
 import com.shop.tradezone.repository.ItemRepository;
 import com.shop.tradezone.repository.MemberRepository;
+import com.shop.tradezone.repository.RoomTradeStatus;
+import com.shop.tradezone.repository.TradeRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -26,9 +28,12 @@ import lombok.RequiredArgsConstructor;
 public class ChatRoomService {
 
 	private final ChatRoomRepository chatRoomRepository;
-	private final ChatMessageRepository chatMessageRepository;
 	private final ItemRepository itemRepository;
 	private final MemberRepository memberRepository;
+	private final TradeRepository tradeRepository; // 목록의 거래 상태
+	private final ChatMembershipCache membershipCache;
+
+	private static final int DEFAULT_ROOM_PAGE_SIZE = 30;
 
 	// 공용 로더 (예외 메시지 한글화)
 	// itemId로 Item 로드 (없으면 400 성격의 예외 던짐)
@@ -71,51 +76,56 @@ public class ChatRoomService {
 		ChatRoom room = ChatRoom.builder().item(item).userA(userA).userB(userB).build();
 
 		try {
-			return chatRoomRepository.save(room);
+			ChatRoom saved = chatRoomRepository.save(room);
+			membershipCache.putRoom(saved.getId(), userA.getId(), userB.getId()); // 참가자 캐시 미리 적재
+			return saved;
 		} catch (DataIntegrityViolationException dup) {
 			// 동시성으로 유니크 충돌 시 재조회로 안전 복구
 			return chatRoomRepository.findByItemAndSellerAndBuyer(item, userA, userB).orElseThrow(() -> dup);
 		}
 	}
 
-	// 2) DTO 변환: 목록에 필요한 최소 필드 + 최신 메시지 1건
+	// 2) DTO 변환: 목록에 필요한 최소 필드 (최신 메시지는 방에 복사된 값 사용 → 추가 쿼리 없음)
 
 	/**
 	 * ChatRoom -> ChatRoomListDto 변환 - 상대 표시명, 미읽음 카운트, 최신 메시지/시각을 채워서 리스트에 쓰기 좋게
 	 * 가공
 	 */
-	@Transactional(readOnly = true)
-	private ChatRoomListDto toDto(ChatRoom r, Member me) {
-		// 1) 상대방/미읽음 카운트 계산
-		Member partner = r.getUserA().equals(me) ? r.getUserB() : r.getUserA();
-		int unread = r.getUserA().equals(me) ? r.getUnreadA() : r.getUnreadB();
-
-		// 2) 최신 메시지 1건 조회
-		// ⚠️ 레포지토리에 아래 시그니처가 필요합니다.
-		// Optional<ChatMessage> findTopByChatRoomIdOrderByCreatedAtDesc(Long roomId);
-		ChatMessage latest = chatMessageRepository.findTopByChatRoom_IdOrderByCreatedAtDesc(r.getId()).orElse(null);
-
-		String lastMessage = (latest != null) ? latest.getContent() : null;
-
-		// 3) lastMessageAt 보정: 엔티티의 lastMessageAt 없으면 최신 메시지 기준
-		LocalDateTime lastAt = (r.getLastMessageAt() != null) ? r.getLastMessageAt()
-				: (latest != null ? latest.getCreatedAt() : null);
-
-		return ChatRoomListDto.builder().roomId(r.getId()).partnerName(partner.getUsername()) // Member 표시명 필드에 맞게 사용
-				.lastMessage(lastMessage).lastMessageAt(lastAt).unreadCount(unread).build();
+	private ChatRoomListDto toDto(ChatRoom r, Long meId) {
+		// 상대방/미읽음 카운트 계산 (id 로 비교 - 엔티티 equals 는 프록시 때문에 믿을 수 없음)
+		boolean meIsA = r.getUserA().getId().equals(meId);
+		Member partner = meIsA ? r.getUserB() : r.getUserA();
+		int unread = meIsA ? r.getUnreadA() : r.getUnreadB();
+
+		return ChatRoomListDto.builder().roomId(r.getId()).partnerId(partner.getId())
+				.partnerName(partner.getUsername()) // Member 표시명 필드에 맞게 사용
+				.lastMessageId(r.getLastMessageId()).lastMessage(r.getLastMessagePreview())
+				.lastMessageAt(r.getLastMessageAt()).unreadCount(unread).build();
 	}
 
 	// 3) 내가 속한 채팅방 리스트 조회 (Member로 받는 버전) — 기존 메서드 유지
 	@Transactional(readOnly = true)
 	public List<ChatRoomListDto> getMyRooms(Member me) {
-		return chatRoomRepository.findByUserAOrUserB(me, me).stream().map(r -> toDto(r, me))
-				.collect(Collectors.toList());
+		return getMyRooms(me.getId(), 0, DEFAULT_ROOM_PAGE_SIZE);
 	}
 
 	// 4) 내가 속한 채팅방 리스트 조회 (meId로 받는 오버로드) — 컨트롤러에서 쓰기 편함
 	@Transactional(readOnly = true)
 	public List<ChatRoomListDto> getMyRooms(Long meId) {
-		Member me = loadMember(meId);
-		return getMyRooms(me); // 위 메서드 재사용
+		return getMyRooms(meId, 0, DEFAULT_ROOM_PAGE_SIZE);
+	}
+
+	// 5) 페이지 단위 조회 (최근 대화순, 방 + 상대방 1 쿼리 + 거래 상태 1 쿼리)
+	@Transactional(readOnly = true)
+	public List<ChatRoomListDto> getMyRooms(Long meId, int page, int size) {
+		List<ChatRoomListDto> rooms = chatRoomRepository.findMyRoomsWithPartners(meId, PageRequest.of(page, size))
+				.stream().map(r -> toDto(r, meId)).collect(Collectors.toList());
+		if (!rooms.isEmpty()) {
+			Map<Long, TradeStatus> statuses = tradeRepository
+					.findStatusesByRoomIds(rooms.stream().map(ChatRoomListDto::getRoomId).toList()).stream()
+					.collect(Collectors.toMap(RoomTradeStatus::getRoomId, RoomTradeStatus::getStatus));
+			rooms.forEach(r -> r.setTradeStatus(statuses.get(r.getRoomId())));
+		}
+		return rooms;
 	}
 }
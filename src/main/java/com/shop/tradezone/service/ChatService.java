@@ -6,11 +6,11 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.shop.tradezone.constant.TradeStatus;
+import com.shop.tradezone.dto.ChatMessageDto;
 import com.shop.tradezone.entity.ChatMessage;
 import com.shop.tradezone.entity.ChatRoom;
 import com.shop.tradezone.entity.Member;
@@ -20,7 +20,6 @@ import com.shop.tradezone.repository.ChatRoomRepository;
 import com.shop.tradezone.repository.MemberRepository;
 import com.shop.tradezone.repository.TradeRepository;
 
-import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -32,6 +31,8 @@ public class ChatService {
 	private final ChatMessageRepository msgRepo;
 	private final MemberRepository memberRepo;
 	private final TradeRepository tradeRepo;
+	private final ChatMessageService chatMessageService;
+	private final ChatMembershipCache membershipCache;
 
 	@Transactional
 	public ChatRoom getOrCreateRoom(Member buyer, Member seller, Long itemId) {
@@ -43,44 +44,32 @@ public class ChatService {
 				.orElseGet(() -> {
 					ChatRoom r = ChatRoom.builder().userA(a).userB(b).createdAt(LocalDateTime.now())
 							.lastMessageAt(LocalDateTime.now()).build();
-					return roomRepo.save(r);
+					return cacheMembers(roomRepo.save(r));
 				});
 	}
 
-	@Transactional
-	public ChatMessage saveMessage(Long roomId, Member sender, String content, String type) {
-		ChatRoom room = roomRepo.findById(roomId)
-				.orElseThrow(() -> new EntityNotFoundException("채팅방이 없습니다. id=" + roomId));
-
-		boolean isA = sender.getId().equals(room.getUserA().getId());
-		boolean isB = sender.getId().equals(room.getUserB().getId());
-		if (!isA && !isB)
-			throw new AccessDeniedException("방 참가자만 보낼 수 있습니다.");
-
-		ChatMessage m = ChatMessage.builder().chatRoom(room).sender(sender).content(content)
-				.type(type != null ? type : "TEXT").createdAt(LocalDateTime.now()).build();
-		msgRepo.save(m);
-
-		// 방 메타 업데이트: 최근메시지 시각 + 상대방 미읽음++
-		room.setLastMessageAt(LocalDateTime.now());
-		if (isA) {
-			room.setUnreadB(room.getUnreadB() + 1);
-		} else {
-			room.setUnreadA(room.getUnreadA() + 1);
+	// 메시지 저장은 ChatMessageService(→ ChatMessageWriter 배치 저장)로 일원화
+	public ChatMessageDto saveMessage(Long roomId, Member sender, String content, String type) {
+		if ("SYSTEM".equals(type)) {
+			return chatMessageService.sendSystem(roomId, content);
 		}
-		// JPA dirty checking으로 flush
-
-		return m;
+		return chatMessageService.sendText(roomId, sender.getId(), content); // 참가자가 아니면 AccessDeniedException
 	}
 
 	// 방 만들기(유저A-유저B 쌍을 기준으로 단일 방 유지)
 	public ChatRoom openRoom(Member a, Member b) {
 		return roomRepo.findByUserAAndUserB(a, b).or(() -> roomRepo.findByUserBAndUserA(a, b)).orElseGet(() -> {
 			ChatRoom r = ChatRoom.builder().userA(a).userB(b).build();
-			return roomRepo.save(r);
+			return cacheMembers(roomRepo.save(r));
 		});
 	}
 
+	// 새 방은 참가자 캐시에 바로 적재 (첫 SUBSCRIBE/SEND 부터 쿼리 X)
+	private ChatRoom cacheMembers(ChatRoom room) {
+		membershipCache.putRoom(room.getId(), room.getUserA().getId(), room.getUserB().getId());
+		return room;
+	}
+
 	// 로그인 사용자(meId)와 상대(otherId)로 방 생성/조회
 	public ChatRoom createOrGetRoomByIds(Long meId, Long otherId) { // ★ 추가
 		Member me = memberRepo.findById(meId).orElseThrow(() -> new IllegalArgumentException("회원이 없습니다: " + meId));
@@ -90,33 +79,9 @@ public class ChatService {
 	}
 
 	/** (기존 시그니처 유지) senderId + content 버전 */
-	public ChatMessage saveMessage(Long roomId, Long senderId, String content) {
+	public ChatMessageDto saveMessage(Long roomId, Long senderId, String content) {
 		// type 미지정 시 기본값 TEXT
-		return saveMessageInternal(roomId, senderId, content, "TEXT");
-	}
-
-	// 공통 저장 로직
-	private ChatMessage saveMessageInternal(Long roomId, Long senderId, String content, String type) { // ★ 추가(리팩터)
-		ChatRoom room = roomRepo.findById(roomId)
-				.orElseThrow(() -> new IllegalArgumentException("채팅방을 찾을 수 없습니다: " + roomId));
-
-		// sender가 A인지 B인지 판정
-		boolean senderIsA = room.getUserA().getId().equals(senderId);
-
-		ChatMessage saved = msgRepo
-				.save(ChatMessage.builder().chatRoom(room).sender(senderIsA ? room.getUserA() : room.getUserB())
-						.content(content).type(type != null ? type : "TEXT") // ★ type 적용
-						.delivered(true).readByA(senderIsA) // 보낸 사람은 즉시 읽음 처리
-						.readByB(!senderIsA).build());
-
-		// 방 메타 업데이트
-		room.setLastMessageAt(saved.getCreatedAt());
-		if (senderIsA) {
-			room.setUnreadB(room.getUnreadB() + 1);
-		} else {
-			room.setUnreadA(room.getUnreadA() + 1);
-		}
-		return saved;
+		return chatMessageService.sendText(roomId, senderId, content);
 	}
 
 	/** 페이징 히스토리(id DESC) */
@@ -134,26 +99,9 @@ public class ChatService {
 		return list;
 	}
 
-	// 읽음 처리: reader가 A면 A 읽음, B면 B 읽음
-	@Transactional
-	public void markRead(Long roomId, Member who) {
-		ChatRoom room = roomRepo.findById(roomId)
-				.orElseThrow(() -> new EntityNotFoundException("채팅방이 없습니다. id=" + roomId));
-
-		boolean isA = who.getId().equals(room.getUserA().getId());
-		boolean isB = who.getId().equals(room.getUserB().getId());
-		if (!isA && !isB)
-			throw new AccessDeniedException("방 참가자만 읽음 처리가 가능합니다.");
-
-		if (isA) {
-			// 메시지 readByA = true
-			msgRepo.markAllReadByA(roomId);
-			// 뱃지 0
-			room.setUnreadA(0);
-		} else {
-			msgRepo.markAllReadByB(roomId);
-			room.setUnreadB(0);
-		}
+	// 읽음 처리: 읽은 위치(high-water mark)만 기록 → ChatReadReceiptBuffer 가 모아서 반영
+	public void markRead(Long roomId, Member who, Long lastReadId) {
+		chatMessageService.markRead(roomId, who.getId(), lastReadId);
 	}
 
 	// 메시지 저장 전, 연결된 Trade 상태가 COMPLETED/ENDED라면 예외 처리
@@ -0,0 +1,51 @@
+package com.shop.tradezone.service;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이미지 전달 URL - 화면에는 저장소 URL 대신 /img/{key} 를 내보냄 (ImageProxyController 가 Cache-Control/ETag 를 붙여 응답,
+ * 자주 보는 썸네일은 디스크 캐시에서) - DB 에는 저장소 URL 그대로 (예전 행도 여기서 바뀜) - 키는 업로드마다 새 UUID 라 내용이 바뀌지
+ * 않음 → ETag 는 키에서 바로 계산
+ */
+@Component
+@RequiredArgsConstructor
+public class ImageDelivery {
+
+	public static final String PATH_PREFIX = "/img/";
+
+	// 프록시로 내보낼 수 있는 키 (버킷의 다른 객체는 X)
+	private static final String SERVABLE_PREFIX = "images/";
+
+	private final ImageStorage storage;
+
+	@Value("${tradezone.image.proxy-enabled:true}")
+	private boolean proxyEnabled;
+
+	// 저장소 URL → 화면용 URL (프록시 대상이 아니면 그대로)
+	public String url(String storedUrl) {
+		if (!proxyEnabled || storedUrl == null || storedUrl.startsWith(PATH_PREFIX)) {
+			return storedUrl;
+		}
+		try {
+			String key = storage.keyOf(storedUrl);
+			return isServable(key) ? PATH_PREFIX + key : storedUrl;
+		} catch (IllegalArgumentException e) {
+			return storedUrl;
+		}
+	}
+
+	public static boolean isServable(String key) {
+		return key != null && key.startsWith(SERVABLE_PREFIX) && !key.contains("..") && !key.contains("\\");
+	}
+
+	// 강한 ETag (같은 키 = 같은 내용)
+	public static String etagOf(String key) {
+		return "\"" + DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)) + "\"";
+	}
+}
@@ -0,0 +1,168 @@
+package com.shop.tradezone.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import com.shop.tradezone.service.ImageStorage.StoredObject;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 자주 보는 이미지 디스크 캐시 (LRU) - 목록 썸네일처럼 cache-prefixes 로 시작하는 키만 저장소에서 1번 받아 cache-dir 에 보관 -
+ * 합계가 cache-max-mb 를 넘으면 가장 오래 안 쓴 파일부터 삭제 - 재시작하면 파일 수정 시각 순으로 다시 적재
+ */
+@Slf4j
+@Component
+public class ImageDiskCache {
+
+	private static final String TMP_SUFFIX = ".tmp";
+
+	private final Path root;
+	private final long maxBytes;
+	private final List<String> prefixes;
+
+	// 파일명 → 크기 (접근 순서 = LRU)
+	private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(256, 0.75f, true);
+	private long totalBytes;
+
+	public ImageDiskCache(@Value("${tradezone.image.cache-dir:./data/img-cache}") String dir,
+			@Value("${tradezone.image.cache-max-mb:512}") long maxMb,
+			@Value("${tradezone.image.cache-prefixes:images/thumbnail_,images/medium_}") String[] prefixes)
+			throws IOException {
+		this.root = Files.createDirectories(Path.of(dir)).toAbsolutePath().normalize();
+		this.maxBytes = maxMb * 1024L * 1024L;
+		this.prefixes = List.of(prefixes);
+		load();
+	}
+
+	public boolean isCacheable(String key) {
+		return prefixes.stream().anyMatch(key::startsWith);
+	}
+
+	/** 캐시에서 열기, 없으면 저장소에서 받아 캐시에 넣은 뒤 열기 (저장소에도 없으면 empty) */
+	public Optional<StoredObject> open(String key, ImageStorage origin) throws IOException {
+		String name = fileName(key);
+		Long size;
+		synchronized (this) {
+			size = entries.get(name);
+		}
+		if (size != null) {
+			try {
+				return Optional.of(new StoredObject(Files.newInputStream(root.resolve(name)), size, contentTypeOf(key)));
+			} catch (NoSuchFileException e) {
+				forget(name); // 그 사이 밀려남 → 다시 받음
+			}
+		}
+
+		Optional<StoredObject> loaded = origin.open(key);
+		if (loaded.isEmpty()) {
+			return loaded;
+		}
+		StoredObject o = loaded.get();
+		Path file;
+		try (InputStream in = o.body()) {
+			file = store(name, in);
+		}
+		String contentType = o.contentType() != null ? o.contentType() : contentTypeOf(key);
+		// 방금 넣은 파일은 가장 최근이라 바로 밀려나지 않음, 열어 둔 파일은 지워져도 끝까지 읽힘
+		return Optional.of(new StoredObject(Files.newInputStream(file), Files.size(file), contentType));
+	}
+
+	// 임시 파일에 받은 뒤 이름만 바꿈 (같은 키를 동시에 받아도 반쯤 쓴 파일을 읽지 않음)
+	private Path store(String name, InputStream in) throws IOException {
+		Path tmp = Files.createTempFile(root, "dl-", TMP_SUFFIX);
+		try {
+			long size = Files.copy(in, tmp, StandardCopyOption.REPLACE_EXISTING);
+			Path target = root.resolve(name);
+			Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			synchronized (this) {
+				Long old = entries.put(name, size);
+				totalBytes += size - (old != null ? old : 0L);
+				evict();
+			}
+			return target;
+		} finally {
+			Files.deleteIfExists(tmp);
+		}
+	}
+
+	private synchronized void forget(String name) {
+		Long old = entries.remove(name);
+		if (old != null) {
+			totalBytes -= old;
+		}
+	}
+
+	// 가장 최근 1개는 남김 (한도보다 큰 파일 1개도 응답은 가능하게)
+	private void evict() {
+		Iterator<Map.Entry<String, Long>> it = entries.entrySet().iterator();
+		while (totalBytes > maxBytes && entries.size() > 1 && it.hasNext()) {
+			Map.Entry<String, Long> eldest = it.next();
+			it.remove();
+			totalBytes -= eldest.getValue();
+			try {
+				Files.deleteIfExists(root.resolve(eldest.getKey()));
+			} catch (IOException e) {
+				log.warn("이미지 캐시 삭제 실패 - {}", eldest.getKey(), e);
+			}
+		}
+	}
+
+	private void load() throws IOException {
+		try (Stream<Path> files = Files.list(root)) {
+			List<Path> list = files.filter(Files::isRegularFile).toList();
+			for (Path file : list.stream().sorted(Comparator.comparingLong(ImageDiskCache::lastModified)).toList()) {
+				String name = file.getFileName().toString();
+				if (name.endsWith(TMP_SUFFIX)) {
+					Files.deleteIfExists(file); // 받다가 끊긴 것
+					continue;
+				}
+				long size = Files.size(file);
+				entries.put(name, size);
+				totalBytes += size;
+			}
+		}
+		evict();
+		log.info("이미지 디스크 캐시 - {}개, {}MB / {}MB", entries.size(), totalBytes / (1024 * 1024),
+				maxBytes / (1024 * 1024));
+	}
+
+	private static long lastModified(Path file) {
+		try {
+			return Files.getLastModifiedTime(file).toMillis();
+		} catch (IOException e) {
+			return 0L;
+		}
+	}
+
+	// 키를 그대로 경로로 쓰지 않음 (디렉터리 1단, 경로 조작 X)
+	private static String fileName(String key) {
+		String ext = key.lastIndexOf('.') > key.lastIndexOf('/') ? key.substring(key.lastIndexOf('.')) : "";
+		if (!ext.matches("\\.[A-Za-z0-9]{1,5}")) {
+			ext = "";
+		}
+		return DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)) + ext;
+	}
+
+	private static String contentTypeOf(String key) {
+		return MediaTypeFactory.getMediaType(key).orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+	}
+}
@@ -0,0 +1,43 @@
+package com.shop.tradezone.service;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * 이미지 저장소 - 운영은 S3 (S3Service), 테스트/로컬 개발은 디스크 (LocalImageStorage) - tradezone.storage.type 으로 선택
+ * (s3 기본, local) - 키는 images/xxx.jpg 형식, DB 에는 urlOf(key) 를 저장하고 화면에는 ImageDelivery 가 /img/{key} 로 바꿔 준다
+ */
+public interface ImageStorage {
+
+	/** deleteKeys 1번에 넘길 수 있는 최대 키 수 (S3 DeleteObjects 제한) */
+	int MAX_DELETE_KEYS = 1000;
+
+	/** 저장된 객체 (body 는 호출한 쪽이 닫는다) */
+	record StoredObject(InputStream body, long length, String contentType) {
+	}
+
+	// 완료되면 저장 URL
+	CompletableFuture<String> uploadAsync(ByteBuffer body, String key, String contentType);
+
+	// 업로드 실패 정리용 - 그 외 삭제는 StorageGarbageCollector 로
+	CompletableFuture<Void> deleteFileAsync(String fileUrl);
+
+	// 실패한 키만 반환 (없는 키는 성공으로 침)
+	List<String> deleteKeys(Collection<String> keys);
+
+	// prefix 아래 객체 중 olderThan 이전에 올라간 것만 페이지 단위로 넘김
+	void forEachKeyPage(String prefix, Instant olderThan, Consumer<List<String>> page);
+
+	// 없는 키는 empty
+	Optional<StoredObject> open(String key);
+
+	String urlOf(String key);
+
+	String keyOf(String fileUrl);
+}
@@ -1,112 +1,336 @@
 package com.shop.tradezone.service;
 
-import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
-import java.io.ByteArrayOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import com.shop.tradezone.entity.Item;
+import com.shop.tradezone.dto.ImageUploadResult;
 import com.shop.tradezone.entity.ItemImg;
 import com.shop.tradezone.repository.ItemImgRepository;
+import com.shop.tradezone.util.ImageUtil;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 상품 이미지 처리 - 디코딩/리사이즈/인코딩은 CPU 수만큼의 작업 풀, S3 업로드는 비동기 클라이언트로 (대기 스레드 없음) - 결과는 업로드
+ * 순서대로 반환하고 DB 저장은 호출한 트랜잭션에서 처리 - 파일별 실패 사유를 결과에 담아 돌려준다 - 원본 외에 large/medium/
+ * thumbnail 폭별 이미지를 만들어 화면마다 필요한 크기만 내려받게 한다 - 메모리: 헤더로 크기를 먼저 보고 필요한 만큼만 축소 디코딩,
+ * 동시 디코딩은 예상 래스터 크기(MB) 합이 decode-budget-mb 를 넘지 않게 대기
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ItemImgService {
 
 	private final ItemImgRepository itemImgRepository;
-	private final S3Service s3Service;
+	private final ImageStorage storage;
+	private final StorageGarbageCollector storageGc;
 
 	private final List<String> allowedContentTypes = List.of("image/jpeg", "image/png", "image/gif", "image/webp",
 			"image/bmp");
 
-	// 이미지 업로드 + 리사이징 + DB 저장 (상위 트랜잭션과 분리)
-	@Transactional(propagation = Propagation.REQUIRES_NEW)
-	public ItemImg uploadAndSaveItemImg(MultipartFile file, Item item) throws IOException {
-		log.info("서비스: uploadAndSaveItemImg 호출됨 - 파일명: {}", file.getOriginalFilename());
+	@Value("${tradezone.image.process-threads:0}") // 0 이면 CPU 수
+	private int processThreads;
+
+	@Value("${tradezone.image.timeout-seconds:60}")
+	private long timeoutSeconds;
+
+	// 사이즈별 가로 폭 (원본이 더 작으면 늘리지 않음)
+	@Value("${tradezone.image.widths.large:1080}")
+	private int largeWidth;
+
+	@Value("${tradezone.image.widths.medium:480}")
+	private int mediumWidth;
+
+	@Value("${tradezone.image.widths.thumbnail:200}")
+	private int thumbnailWidth;
+
+	@Value("${tradezone.image.jpeg-quality:0.82}")
+	private float jpegQuality;
 
-		validateFile(file);
+	// 원본 보관 크기 (긴 변, 0 이면 제한 없음) - 디코딩도 이 크기 이상 남는 배율로 건너뛰며 읽는다
+	@Value("${tradezone.image.original-max-side:2000}")
+	private int originalMaxSide;
 
-		BufferedImage originalImage = ImageIO.read(file.getInputStream());
-		BufferedImage thumbnailImage = resizeImage(originalImage, 200);
+	// 압축 폭탄 방지 (가로 x 세로)
+	@Value("${tradezone.image.max-pixels:50000000}")
+	private long maxPixels;
 
-		String originalFileName = "images/original_" + UUID.randomUUID() + ".jpg";
-		String thumbnailFileName = "images/thumbnail_" + UUID.randomUUID() + ".jpg";
+	// 동시 디코딩 메모리 예산 (MB) - 한 장이 예산보다 크면 혼자 처리
+	@Value("${tradezone.image.decode-budget-mb:256}")
+	private int decodeBudgetMb;
 
-		byte[] originalBytes = toByteArray(originalImage);
-		byte[] thumbnailBytes = toByteArray(thumbnailImage);
+	// 디코딩된 픽셀 1개당 예상 힙 (디코더 3~4 + RGB 변환 4 + 방향 보정 4 + 단계 축소 여유)
+	// 측정 (JDK 17, SerialGC 로 통과하는 최소 힙 - 파일만 읽는 기준선, 원본 2000 / 1080 / 480 / 200 인코딩까지):
+	// 4032x3024 JPEG(1/2 → 3.0M px) 10.3B, 3999x2999 JPEG + 90° 회전 10.8B, 3999x2999 알파 PNG + 90° 회전 12.1B
+	// → 최악 12.1B 에 여유를 두고 13
+	private static final int BYTES_PER_PIXEL = 13;
 
-		String originalUrl;
-		String thumbnailUrl;
+	// EXIF(APP1) 는 파일 앞 64KB 안에 있음
+	private static final int EXIF_HEAD_BYTES = 64 * 1024 + 16;
+
+	private ExecutorService processPool;
+	private Semaphore decodeBudget;
+
+	private record Encoded(ByteBuffer original, ByteBuffer large, ByteBuffer medium, ByteBuffer thumbnail) {
+	}
+
+	// 파일 1개 처리 단계 (시간 초과 시 취소/정리용)
+	private record Task(CompletableFuture<Encoded> encoding, CompletableFuture<List<String>> uploading,
+			CompletableFuture<ImageUploadResult> result) {
+	}
+
+	@PostConstruct
+	void initPools() {
+		int cpu = processThreads > 0 ? processThreads : Runtime.getRuntime().availableProcessors();
+		// 큐가 차면 요청 스레드가 직접 처리 (대기열 무한 증가 방지)
+		processPool = new ThreadPoolExecutor(cpu, cpu, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(cpu * 4),
+				new CustomizableThreadFactory("img-process-"), new ThreadPoolExecutor.CallerRunsPolicy());
+		decodeBudget = new Semaphore(decodeBudgetMb, true);
+	}
+
+	@PreDestroy
+	void shutdownPools() {
+		processPool.shutdown();
+	}
+
+	// 여러 장 병렬 처리 (리사이즈 + S3 업로드) - 결과는 files 순서 그대로
+	public List<ImageUploadResult> uploadAll(List<MultipartFile> files) {
+		int total = files.size();
+		AtomicInteger done = new AtomicInteger();
+		List<Task> tasks = new ArrayList<>(total);
+
+		for (int i = 0; i < total; i++) {
+			MultipartFile file = files.get(i);
+			int index = i;
+			String fileName = file.getOriginalFilename();
+
+			// 요청이 끝나면 임시 파일이 지워지므로 작업 풀에 넘기기 전에 바이트로 (압축된 크기 - 업로드 한도 안)
+			byte[] bytes;
+			try {
+				validateFile(file);
+				bytes = file.getBytes();
+			} catch (IllegalArgumentException | IOException e) {
+				CompletableFuture<ImageUploadResult> failed = CompletableFuture
+						.completedFuture(ImageUploadResult.failed(index, fileName, e.getMessage()));
+				tasks.add(new Task(null, null, failed));
+				continue;
+			}
+
+			CompletableFuture<Encoded> encoding = CompletableFuture.supplyAsync(() -> encode(bytes), processPool);
+			CompletableFuture<List<String>> uploading = encoding.thenCompose(this::upload);
+			CompletableFuture<ImageUploadResult> result = uploading
+					.thenApply(urls -> new ImageUploadResult(index, fileName, urls.get(0), urls.get(1), urls.get(2),
+							urls.get(3), null))
+					.exceptionally(e -> {
+						log.error("❌ 이미지 처리 실패 - 파일명: {}", fileName, e);
+						return ImageUploadResult.failed(index, fileName, rootMessage(e));
+					})
+					.whenComplete((r, e) -> log.info("이미지 처리 {}/{} - {}", done.incrementAndGet(), total, fileName));
+			tasks.add(new Task(encoding, uploading, result));
+		}
 
 		try {
-			originalUrl = s3Service.upload(originalBytes, originalFileName, "image/jpeg");
-			thumbnailUrl = s3Service.upload(thumbnailBytes, thumbnailFileName, "image/jpeg");
-			log.info("✅ S3 업로드 성공 - 원본: {}, 썸네일: {}", originalUrl, thumbnailUrl);
-		} catch (Exception e) {
-			log.error("❌ S3 업로드 실패", e);
-			throw e; // 예외 재던져서 호출자에게 알림 (트랜잭션 롤백 유도)
+			CompletableFuture.allOf(tasks.stream().map(Task::result).toArray(CompletableFuture[]::new))
+					.get(timeoutSeconds, TimeUnit.SECONDS);
+		} catch (TimeoutException e) {
+			log.warn("이미지 처리 시간 초과 ({}초) - 끝나지 않은 파일은 실패 처리", timeoutSeconds);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			// 개별 실패는 exceptionally 에서 결과로 변환되므로 여기 올 일 없음
+		}
+
+		List<ImageUploadResult> results = new ArrayList<>(total);
+		for (int i = 0; i < total; i++) {
+			Task task = tasks.get(i);
+			// complete 가 성공하면 이 결과(시간 초과)로 확정 → 아직 안 끝난 작업은 취소, 늦게 끝난 업로드는 지움
+			ImageUploadResult timedOut = ImageUploadResult.failed(i, files.get(i).getOriginalFilename(), "처리 시간 초과");
+			if (task.result().complete(timedOut)) {
+				abandon(task);
+			}
+			results.add(task.result().join());
 		}
+		return results;
+	}
+
+	// 대기 중인 인코딩은 시작하지 않고, 이미 업로드 중이면 끝난 뒤 삭제 (아무도 참조하지 않는 S3 객체 방지)
+	private void abandon(Task task) {
+		task.encoding().cancel(false);
+		task.uploading().thenAccept(urls -> {
+			log.info("시간 초과 후 끝난 업로드 삭제 - {}", urls);
+			urls.forEach(url -> deleteQuietly(CompletableFuture.completedFuture(url)));
+		});
+	}
+
+	// 원본 교체 (기존 S3 파일은 정리 대기열에 넣고 새 URL 반영)
+	@Transactional
+	public ItemImg replaceItemImg(Long itemImgId, ImageUploadResult uploaded) {
+		ItemImg existingImg = itemImgRepository.findById(itemImgId)
+				.orElseThrow(() -> new RuntimeException("이미지를 찾을 수 없습니다."));
 
-		ItemImg itemImg = ItemImg.builder().imgName(file.getOriginalFilename()).imgUrl(originalUrl)
-				.thumbnailUrl(thumbnailUrl).item(item).build();
+		deleteFiles(existingImg);
 
-		ItemImg savedImg = itemImgRepository.save(itemImg);
-		log.info("✅ 이미지 DB 저장 완료 - 이미지ID: {}", savedImg.getId());
+		existingImg.setImgName(uploaded.fileName());
+		existingImg.setImgUrl(uploaded.imgUrl());
+		existingImg.setLargeUrl(uploaded.largeUrl());
+		existingImg.setMediumUrl(uploaded.mediumUrl());
+		existingImg.setThumbnailUrl(uploaded.thumbnailUrl());
 
-		return savedImg;
+		return itemImgRepository.save(existingImg);
 	}
 
 	@Transactional(propagation = Propagation.REQUIRES_NEW)
 	public void deleteItemImg(Long itemImgId) {
 		ItemImg img = itemImgRepository.findById(itemImgId).orElseThrow(() -> new RuntimeException("이미지를 찾을 수 없습니다."));
 
-		s3Service.deleteFile(img.getImgUrl());
-		s3Service.deleteFile(img.getThumbnailUrl());
+		deleteFiles(img);
 		itemImgRepository.delete(img);
 	}
 
-	@Transactional(propagation = Propagation.REQUIRES_NEW)
-	public ItemImg updateItemImg(Long itemImgId, MultipartFile newFile) throws IOException {
-		validateFile(newFile);
+	// 실제 삭제는 커밋 후 StorageGarbageCollector 가 모아서
+	private void deleteFiles(ItemImg img) {
+		storageGc.enqueueUrls(fileUrls(img));
+	}
 
-		ItemImg existingImg = itemImgRepository.findById(itemImgId)
-				.orElseThrow(() -> new RuntimeException("이미지를 찾을 수 없습니다."));
+	public static List<String> fileUrls(ItemImg img) {
+		return Stream.of(img.getImgUrl(), img.getLargeUrl(), img.getMediumUrl(), img.getThumbnailUrl())
+				.filter(Objects::nonNull).toList();
+	}
 
-		// 기존 이미지 삭제
-		s3Service.deleteFile(existingImg.getImgUrl());
-		s3Service.deleteFile(existingImg.getThumbnailUrl());
+	// [작업 풀] 헤더로 크기 확인 → 메모리 예산 확보 → 축소 디코딩 → EXIF 방향 보정 → 폭별 축소(큰 것부터 단계적으로) → JPEG 인코딩
+	private Encoded encode(byte[] bytes) {
+		try {
+			int orientation = ImageUtil
+					.readExifOrientation(Arrays.copyOf(bytes, Math.min(bytes.length, EXIF_HEAD_BYTES)));
+			try (InputStream in = new ByteArrayInputStream(bytes);
+					ImageInputStream input = ImageIO.createImageInputStream(in)) {
+				ImageReader reader = ImageUtil.openReader(input);
+				try {
+					int width = reader.getWidth(0);
+					int height = reader.getHeight(0);
+					if ((long) width * height > maxPixels) {
+						throw new IllegalArgumentException("이미지 해상도가 너무 큽니다: " + width + "x" + height);
+					}
+					int factor = ImageUtil.subsampling(Math.max(width, height), originalMaxSide);
+					int permits = budgetPermits(width, height, factor);
+					acquire(permits);
+					try {
+						Encoded encoded = encode(ImageUtil.readSubsampled(reader, factor), orientation);
+						log.debug("이미지 디코딩 {}x{} → 1/{} (예산 {}MB)", width, height, factor, permits);
+						return encoded;
+					} finally {
+						decodeBudget.release(permits);
+					}
+				} finally {
+					reader.dispose();
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
 
-		// 새로운 이미지 처리
-		BufferedImage originalImage = ImageIO.read(newFile.getInputStream());
-		BufferedImage thumbnailImage = resizeImage(originalImage, 200);
+	private Encoded encode(BufferedImage decoded, int orientation) throws IOException {
+		BufferedImage original = ImageUtil.resizeToFit(ImageUtil.applyOrientation(ImageUtil.toRgb(decoded), orientation),
+				originalMaxSide);
+		BufferedImage large = ImageUtil.resizeToWidth(original, largeWidth);
+		BufferedImage medium = ImageUtil.resizeToWidth(large, mediumWidth);
+		BufferedImage thumbnail = ImageUtil.resizeToWidth(medium, thumbnailWidth);
+
+		// 큰 이미지는 progressive (먼저 흐릿하게 보임), 썸네일은 baseline 이 더 작다
+		return new Encoded(ImageUtil.encodeJpeg(original, jpegQuality, true),
+				ImageUtil.encodeJpeg(large, jpegQuality, true), ImageUtil.encodeJpeg(medium, jpegQuality, true),
+				ImageUtil.encodeJpeg(thumbnail, jpegQuality, false));
+	}
 
-		String originalFileName = "images/original_" + UUID.randomUUID() + ".jpg";
-		String thumbnailFileName = "images/thumbnail_" + UUID.randomUUID() + ".jpg";
+	// 축소 디코딩 후 픽셀 수 기준 예상 힙 (MB, 1 ~ 예산 전체)
+	private int budgetPermits(int width, int height, int factor) {
+		return ImageUtil.budgetMb(ImageUtil.decodedPixels(width, height, factor), BYTES_PER_PIXEL, decodeBudgetMb);
+	}
 
-		byte[] originalBytes = toByteArray(originalImage);
-		byte[] thumbnailBytes = toByteArray(thumbnailImage);
+	private void acquire(int permits) {
+		try {
+			decodeBudget.acquire(permits);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("이미지 처리가 중단되었습니다.", e);
+		}
+	}
 
-		String originalUrl = s3Service.upload(originalBytes, originalFileName, "image/jpeg");
-		String thumbnailUrl = s3Service.upload(thumbnailBytes, thumbnailFileName, "image/jpeg");
+	// [S3 비동기] 사이즈별 파일 동시 업로드 (original, large, medium, thumbnail 순) - 하나라도 실패하면 올라간 것은 지운다
+	private CompletableFuture<List<String>> upload(Encoded encoded) {
+		String id = UUID.randomUUID().toString();
+		List<CompletableFuture<String>> uploads = List.of(
+				uploadAsync(encoded.original(), "images/original_" + id + ".jpg"),
+				uploadAsync(encoded.large(), "images/large_" + id + ".jpg"),
+				uploadAsync(encoded.medium(), "images/medium_" + id + ".jpg"),
+				uploadAsync(encoded.thumbnail(), "images/thumbnail_" + id + ".jpg"));
+
+		return CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new))
+				.thenApply(v -> uploads.stream().map(CompletableFuture::join).toList())
+				.whenComplete((urls, e) -> {
+					if (e != null) {
+						uploads.forEach(this::deleteQuietly);
+					}
+				});
+	}
 
-		existingImg.setImgName(newFile.getOriginalFilename());
-		existingImg.setImgUrl(originalUrl);
-		existingImg.setThumbnailUrl(thumbnailUrl);
+	private CompletableFuture<String> uploadAsync(ByteBuffer body, String key) {
+		return storage.uploadAsync(body, key, "image/jpeg");
+	}
 
-		return itemImgRepository.save(existingImg);
+	// 이미 올라간 것만 지움 (응답 스레드에서 불리므로 기다리지 않음)
+	private void deleteQuietly(CompletableFuture<String> uploaded) {
+		uploaded.thenCompose(storage::deleteFileAsync).exceptionally(e -> {
+			if (!uploaded.isCompletedExceptionally()) {
+				log.warn("업로드 실패 정리 중 삭제 실패 - {}", uploaded.join(), e);
+			}
+			return null;
+		});
+	}
+
+	private String rootMessage(Throwable e) {
+		Throwable cause = e;
+		while ((cause instanceof CompletionException || cause instanceof UncheckedIOException)
+				&& cause.getCause() != null) {
+			cause = cause.getCause();
+		}
+		return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
 	}
 
 	private void validateFile(MultipartFile file) {
@@ -118,19 +342,4 @@ public class ItemImgService {
 			throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다: " + contentType);
 		}
 	}
-
-	private byte[] toByteArray(BufferedImage image) throws IOException {
-		ByteArrayOutputStream baos = new ByteArrayOutputStream();
-		ImageIO.write(image, "jpg", baos);
-		return baos.toByteArray();
-	}
-
-	private BufferedImage resizeImage(BufferedImage originalImage, int targetWidth) {
-		int targetHeight = (int) (originalImage.getHeight() * (targetWidth / (double) originalImage.getWidth()));
-		BufferedImage resizedImage = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
-		Graphics2D g2d = resizedImage.createGraphics();
-		g2d.drawImage(originalImage, 0, 0, targetWidth, targetHeight, null);
-		g2d.dispose();
-		return resizedImage;
-	}
 }
@@ -0,0 +1,252 @@
+package com.shop.tradezone.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.shop.tradezone.dto.ItemCardDto;
+import com.shop.tradezone.dto.ItemSearchCondition;
+import com.shop.tradezone.dto.ItemSearchDocument;
+import com.shop.tradezone.entity.Item;
+import com.shop.tradezone.repository.ItemRepository;
+import com.shop.tradezone.util.NGramTokenizer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 검색 (메모리 역색인) - 상품명/설명/지역을 2-gram 으로 색인하고 BM25 로 점수 계산 - 기동 시 전체 색인, 이후
+ * ItemService 의 등록/수정/삭제/상태변경 커밋 이벤트로 증분 반영 - 검색 시 DB 조회 없음 (LIKE '%x%' 풀스캔 대체)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ItemSearchService {
+
+	// BM25 파라미터 (일반적인 기본값)
+	private static final double K1 = 1.2;
+	private static final double B = 0.75;
+
+	// 상품명에 걸린 단어는 설명보다 중요하게 본다
+	private static final int NAME_WEIGHT = 3;
+	private static final int DESCRIPTION_WEIGHT = 1;
+	private static final int REGION_WEIGHT = 1;
+
+	private static final int REBUILD_BATCH_SIZE = 500;
+
+	private final ItemRepository itemRepository;
+	private final ImageDelivery imageDelivery;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	// term → (itemId → 가중 빈도)
+	private Map<String, Map<Long, Integer>> postings = new HashMap<>();
+	private Map<Long, IndexedItem> items = new HashMap<>();
+	private long totalLength = 0;
+
+	// 전체 색인 중 들어온 변경 (itemId → 마지막 문서) - 새 색인으로 바꿀 때 다시 적용
+	private Map<Long, ItemSearchDocument> changedDuringRebuild = null;
+
+	private static final Comparator<IndexedItem> NEWEST_FIRST = Comparator
+			.comparing((IndexedItem i) -> i.doc().itemId()).reversed();
+
+	private record IndexedItem(ItemSearchDocument doc, Map<String, Integer> termFreqs, int length) {
+	}
+
+	// 1) 전체 색인 (기동 시)
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public void rebuild() {
+		lock.writeLock().lock();
+		try {
+			changedDuringRebuild = new LinkedHashMap<>();
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		Map<String, Map<Long, Integer>> newPostings = new HashMap<>();
+		Map<Long, IndexedItem> newItems = new HashMap<>();
+		long newTotalLength = 0;
+
+		int page = 0;
+		Page<Item> batch;
+		try {
+			do {
+				batch = itemRepository.findAll(PageRequest.of(page++, REBUILD_BATCH_SIZE, Sort.by("id")));
+				for (Item item : batch) {
+					IndexedItem indexed = analyze(ItemSearchDocument.from(item));
+					newItems.put(indexed.doc().itemId(), indexed);
+					addPostings(newPostings, indexed);
+					newTotalLength += indexed.length();
+				}
+			} while (batch.hasNext());
+		} catch (RuntimeException e) {
+			lock.writeLock().lock();
+			try {
+				changedDuringRebuild = null; // 기존 색인 유지 (증분은 이미 반영됨)
+			} finally {
+				lock.writeLock().unlock();
+			}
+			throw e;
+		}
+
+		lock.writeLock().lock();
+		try {
+			this.postings = newPostings;
+			this.items = newItems;
+			this.totalLength = newTotalLength;
+			// 읽는 도중 커밋된 변경은 새 색인에 빠졌을 수 있음 → 다시 적용 (이미 반영된 것도 같은 결과)
+			changedDuringRebuild.values().forEach(this::apply);
+			changedDuringRebuild = null;
+		} finally {
+			lock.writeLock().unlock();
+		}
+		log.info("상품 검색 색인 완료 - 상품 {}건, 토큰 {}종", newItems.size(), newPostings.size());
+	}
+
+	// 2) 증분 색인 (상품 트랜잭션 커밋 후)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onItemChanged(ItemSearchDocument doc) {
+		lock.writeLock().lock();
+		try {
+			apply(doc);
+			if (changedDuringRebuild != null) {
+				changedDuringRebuild.remove(doc.itemId()); // 순서 유지 (마지막 변경이 뒤로)
+				changedDuringRebuild.put(doc.itemId(), doc);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// 쓰기 잠금 안에서만
+	private void apply(ItemSearchDocument doc) {
+		remove(doc.itemId());
+		if (!doc.removed()) {
+			IndexedItem indexed = analyze(doc);
+			items.put(doc.itemId(), indexed);
+			addPostings(postings, indexed);
+			totalLength += indexed.length();
+		}
+	}
+
+	// 3) 검색
+	public Page<ItemCardDto> search(ItemSearchCondition cond, Pageable pageable) {
+		List<String> terms = NGramTokenizer.tokenize(cond.getQ()).stream().distinct().toList();
+
+		lock.readLock().lock();
+		try {
+			List<IndexedItem> hits = terms.isEmpty() ? filterOnly(cond) : score(terms, cond);
+
+			int from = (int) Math.min(pageable.getOffset(), hits.size());
+			int to = Math.min(from + pageable.getPageSize(), hits.size());
+			List<ItemCardDto> content = hits.subList(from, to).stream().map(i -> i.doc().toCard()).toList();
+			content.forEach(c -> c.setThumbnailUrl(imageDelivery.url(c.getThumbnailUrl())));
+
+			return new PageImpl<>(content, pageable, hits.size());
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// 검색어 없이 필터만 → 최신순
+	private List<IndexedItem> filterOnly(ItemSearchCondition cond) {
+		List<IndexedItem> hits = new ArrayList<>();
+		for (IndexedItem indexed : items.values()) {
+			if (cond.matches(indexed.doc())) {
+				hits.add(indexed);
+			}
+		}
+		hits.sort(NEWEST_FIRST);
+		return hits;
+	}
+
+	// BM25 점수순 (동점이면 최신순)
+	private List<IndexedItem> score(List<String> terms, ItemSearchCondition cond) {
+		int n = items.size();
+		double avgLength = n == 0 ? 1 : Math.max(1, (double) totalLength / n);
+
+		Map<Long, Double> scores = new HashMap<>();
+		for (String term : terms) {
+			Map<Long, Integer> posting = postings.get(term);
+			if (posting == null) {
+				continue;
+			}
+			double idf = Math.log(1 + (n - posting.size() + 0.5) / (posting.size() + 0.5));
+
+			for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+				IndexedItem indexed = items.get(entry.getKey());
+				if (indexed == null || !cond.matches(indexed.doc())) {
+					continue;
+				}
+				double tf = entry.getValue();
+				double norm = tf * (K1 + 1) / (tf + K1 * (1 - B + B * indexed.length() / avgLength));
+				scores.merge(entry.getKey(), idf * norm, Double::sum);
+			}
+		}
+
+		List<IndexedItem> hits = new ArrayList<>(scores.size());
+		scores.keySet().forEach(id -> hits.add(items.get(id)));
+		hits.sort(Comparator.comparingDouble((IndexedItem i) -> scores.get(i.doc().itemId())).reversed()
+				.thenComparing(NEWEST_FIRST));
+		return hits;
+	}
+
+	// ===== 색인 내부 =====
+
+	private IndexedItem analyze(ItemSearchDocument doc) {
+		Map<String, Integer> termFreqs = new HashMap<>();
+		int length = 0;
+		length += addTerms(termFreqs, doc.name(), NAME_WEIGHT);
+		length += addTerms(termFreqs, doc.description(), DESCRIPTION_WEIGHT);
+		length += addTerms(termFreqs, doc.region(), REGION_WEIGHT);
+		return new IndexedItem(doc, termFreqs, length);
+	}
+
+	private int addTerms(Map<String, Integer> termFreqs, String text, int weight) {
+		List<String> tokens = NGramTokenizer.tokenize(text);
+		for (String token : tokens) {
+			termFreqs.merge(token, weight, Integer::sum);
+		}
+		return tokens.size() * weight;
+	}
+
+	private void addPostings(Map<String, Map<Long, Integer>> target, IndexedItem indexed) {
+		Long itemId = indexed.doc().itemId();
+		indexed.termFreqs().forEach((term, freq) -> target.computeIfAbsent(term, t -> new HashMap<>()).put(itemId, freq));
+	}
+
+	private void remove(Long itemId) {
+		IndexedItem old = items.remove(itemId);
+		if (old == null) {
+			return;
+		}
+		totalLength -= old.length();
+		for (String term : old.termFreqs().keySet()) {
+			Map<Long, Integer> posting = postings.get(term);
+			if (posting != null) {
+				posting.remove(itemId);
+				if (posting.isEmpty()) {
+					postings.remove(term);
+				}
+			}
+		}
+	}
+}
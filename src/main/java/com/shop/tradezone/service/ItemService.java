@@ -1,14 +1,18 @@
 package com.shop.tradezone.service;
 
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -18,10 +22,15 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.shop.tradezone.constant.ItemSellStatus;
+import com.shop.tradezone.dto.CursorSliceDto;
+import com.shop.tradezone.dto.ImageUploadReport;
+import com.shop.tradezone.dto.ImageUploadResult;
 import com.shop.tradezone.dto.ItemCardDto;
+import com.shop.tradezone.dto.ItemCursor;
 import com.shop.tradezone.dto.ItemDetailDto;
 import com.shop.tradezone.dto.ItemFormDto;
 import com.shop.tradezone.dto.ItemListDto;
+import com.shop.tradezone.dto.ItemSearchDocument;
 import com.shop.tradezone.dto.ItemUpdateDto;
 import com.shop.tradezone.dto.ReviewFormDto;
 import com.shop.tradezone.entity.Category;
@@ -29,10 +38,13 @@ import com.shop.tradezone.entity.Item;
 import com.shop.tradezone.entity.ItemImg;
 import com.shop.tradezone.entity.Member;
 import com.shop.tradezone.repository.CategoryRepository;
+import com.shop.tradezone.repository.ItemDetailCounts;
+import com.shop.tradezone.repository.ItemImgRepository;
 import com.shop.tradezone.repository.ItemRepository;
-import com.shop.tradezone.repository.LikeRepository;
+import com.shop.tradezone.repository.ItemThumbnail;
 import com.shop.tradezone.repository.MemberRepository;
 import com.shop.tradezone.repository.ReviewRepository;
+import com.shop.tradezone.util.PriceUtil;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -47,15 +59,20 @@ public class ItemService {
 	private final ItemRepository itemRepository;
 	private final MemberRepository memberRepository;
 	private final CategoryRepository categoryRepository;
-	private final LikeRepository likeRepository;
+	private final CategoryService categoryService;
 	private final ReviewRepository reviewRepository;
 	private final ItemImgService itemImgService;
-
-	// 메인 최근 상품
-	public Page<ItemCardDto> getMainItems(int page, int size) {
-		Pageable pageable = PageRequest.of(page, size, Sort.by("created").descending());
-		Page<Item> itemsPage = itemRepository.findAll(pageable);
-		return itemsPage.map(this::toItemCardDto);
+	private final StorageGarbageCollector storageGc;
+	private final ItemImgRepository itemImgRepository;
+	private final ApplicationEventPublisher eventPublisher; // 검색 색인 갱신용
+	private final ItemViewCounter itemViewCounter;
+	private final ImageDelivery imageDelivery;
+
+	// 메인 최근 상품 (커서 페이징 - 무한 스크롤)
+	public CursorSliceDto<ItemCardDto> getMainItems(String cursor, int size) {
+		ItemCursor c = ItemCursor.decode(cursor);
+		Slice<Item> slice = itemRepository.findMainSlice(c.created(), c.id(), PageRequest.of(0, size));
+		return CursorSliceDto.of(slice, this::toItemCards, this::cursorOf);
 	}
 
 	// 상품 ID로 조회
@@ -64,16 +81,57 @@ public class ItemService {
 				.orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다."));
 	}
 
-	// 마이페이지 상품
-	public Page<ItemCardDto> getItemsByMember(Long memberId, int page, int size) {
-		Pageable pageable = PageRequest.of(page, size, Sort.by("created").descending());
-		return itemRepository.findBySellerId(memberId, pageable).map(this::toItemCardDto);
+	// 마이페이지 상품 (커서 페이징)
+	public CursorSliceDto<ItemCardDto> getItemsByMember(Long memberId, String cursor, int size) {
+		ItemCursor c = ItemCursor.decode(cursor);
+		Slice<Item> slice = itemRepository.findSellerSlice(memberId, c.created(), c.id(), PageRequest.of(0, size));
+		return CursorSliceDto.of(slice, this::toItemCards, this::cursorOf);
+	}
+
+	// 카테고리별 상품 (커서 페이징) - 품목 ID 는 유일하므로 category_id 인덱스만 탄다
+	public CursorSliceDto<ItemCardDto> getItemsByCategory(Long childCategoryId, String cursor, int size) {
+		ItemCursor c = ItemCursor.decode(cursor);
+		Slice<Item> slice = itemRepository.findCategorySlice(childCategoryId, c.created(), c.id(),
+				PageRequest.of(0, size));
+		return CursorSliceDto.of(slice, this::toItemCards, this::cursorOf);
 	}
 
-	// 카테고리별 상품
-	public Page<ItemCardDto> getItemsByCategory(Long parentCategoryId, Long childCategoryId, Pageable pageable) {
-		return itemRepository.findByCategoryId_IdAndCategoryId_Parent_Id(childCategoryId, parentCategoryId, pageable)
-				.map(this::toItemCardDto);
+	// 가격대 필터 + 가격순/최신순 목록 (상태 기준)
+	public Page<ItemCardDto> getItemsByPrice(ItemSellStatus status, Long minPrice, Long maxPrice, String sort, int page,
+			int size) {
+		Pageable pageable = PageRequest.of(page, size, toSort(sort));
+		return toCardPage(
+				itemRepository.findByStatusAndPriceBetween(status, orMin(minPrice), orMax(maxPrice), pageable));
+	}
+
+	// 카테고리별 상품 (가격대 필터 + 정렬)
+	public Page<ItemCardDto> getItemsByCategory(Long parentCategoryId, Long childCategoryId, Long minPrice,
+			Long maxPrice, String sort, int page, int size) {
+		if (!categoryService.isChildOf(childCategoryId, parentCategoryId)) {
+			return Page.empty(PageRequest.of(page, size));
+		}
+		Pageable pageable = PageRequest.of(page, size, toSort(sort));
+		return toCardPage(itemRepository.findByCategoryId_IdAndPriceBetween(childCategoryId, orMin(minPrice),
+				orMax(maxPrice), pageable));
+	}
+
+	// 정렬 옵션: priceAsc / priceDesc / (기본) 최신순
+	private Sort toSort(String sort) {
+		if ("priceAsc".equals(sort)) {
+			return Sort.by("price").ascending().and(Sort.by("id").ascending());
+		}
+		if ("priceDesc".equals(sort)) {
+			return Sort.by("price").descending().and(Sort.by("id").descending());
+		}
+		return Sort.by("created").descending();
+	}
+
+	private Long orMin(Long minPrice) {
+		return minPrice != null ? minPrice : 0L;
+	}
+
+	private Long orMax(Long maxPrice) {
+		return maxPrice != null ? maxPrice : Long.MAX_VALUE;
 	}
 
 	// 관리자 상품 리스트
@@ -88,9 +146,9 @@ public class ItemService {
 		return itemRepository.findAll(pageable);
 	}
 
-	// 상품 등록
+	// 상품 등록 - 이미지는 ItemUploadService 가 트랜잭션 밖에서 올려두고 결과만 받아 저장
 	@Transactional
-	public Long createItem(ItemFormDto dto, Long sellerId) throws IOException {
+	public ImageUploadReport createItem(ItemFormDto dto, Long sellerId, List<ImageUploadResult> results) {
 		log.info("▶▶▶ createItem() 진입");
 
 		Member seller = memberRepository.findById(sellerId)
@@ -106,59 +164,56 @@ public class ItemService {
 			throw new IllegalArgumentException("부모-자식 카테고리 관계가 일치하지 않습니다.");
 		}
 
-		Item item = Item.builder().name(dto.getName()).description(dto.getDescription()).price(dto.getPrice())
-				.region(dto.getRegion()).seller(seller).categoryId(child).status(ItemSellStatus.SELL).viewCount(0)
-				.created(LocalDateTime.now()).build();
+		Item item = Item.builder().name(dto.getName()).description(dto.getDescription())
+				.price(PriceUtil.parse(dto.getPrice())).region(dto.getRegion()).seller(seller).categoryId(child)
+				.status(ItemSellStatus.SELL).viewCount(0).created(LocalDateTime.now()).build();
 
 		itemRepository.save(item);
 		log.info("✅ Item 저장 완료: id={}", item.getId());
 
-		if (dto.getImages() != null) {
-			for (var file : dto.getImages()) {
-				try {
-					ItemImg img = itemImgService.uploadAndSaveItemImg(file, item);
-					item.getImages().add(img);
-					log.info("✅ 이미지 저장 완료: url={}", img.getImgUrl());
-				} catch (Exception e) {
-					log.error("❌ 이미지 저장 중 에러 발생", e);
-				}
-			}
-		}
+		// 이미지는 업로드 순서대로 저장
+		addImages(item, results);
 
-		return item.getId();
+		eventPublisher.publishEvent(ItemSearchDocument.from(item));
+		return ImageUploadReport.of(item.getId(), results);
 	}
 
-	// 상품 상세
-	@Transactional
-	public ItemDetailDto getItemDetail(Long itemId, Long memberId) {
-		Item item = itemRepository.findById(itemId)
-				.orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다."));
-
-		// 조회수 증가
-		item.increaseViewCount();
-
-		// 좋아요 여부 확인
-		boolean isLiked = false;
-		if (memberId != null) {
-			Member member = memberRepository.findById(memberId).orElse(null);
-			if (member != null) {
-				isLiked = likeRepository.existsByItemAndMember(item, member);
-			}
-		}
+	static List<MultipartFile> nonEmpty(List<MultipartFile> files) {
+		return files == null ? List.of() : files.stream().filter(f -> f != null && !f.isEmpty()).toList();
+	}
 
-		// 찜 수는 likeRepository로 정확히 조회
-		int likeCount = likeRepository.countByItem(item);
+	// 성공한 이미지만 순서대로 추가
+	private void addImages(Item item, List<ImageUploadResult> results) {
+		List<ItemImg> imgs = results.stream().filter(ImageUploadResult::success)
+				.map(r -> ItemImg.builder().imgName(r.fileName()).imgUrl(r.imgUrl()).largeUrl(r.largeUrl())
+						.mediumUrl(r.mediumUrl()).thumbnailUrl(r.thumbnailUrl()).item(item).build())
+				.toList();
+		itemImgRepository.saveAll(imgs);
+		item.getImages().addAll(imgs);
+		log.info("✅ 이미지 저장 완료: {}/{}장", imgs.size(), results.size());
+	}
 
-		// 판매자 상품 수 계산
-		int sellerItemCount = itemRepository.countBySeller(item.getSeller());
+	// 상품 상세 (읽기 전용 - 조회수는 ItemViewCounter 가 따로 모아서 반영)
+	public ItemDetailDto getItemDetail(Long itemId, Long memberId) {
+		// 1) 상품 + 판매자/구매자 + 카테고리 + 이미지 (1 쿼리)
+		Item item = itemRepository.findDetailById(itemId)
+				.orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다."));
 
-		// 리뷰 목록 조회
-		List<ReviewFormDto> reviews = reviewRepository.findByItemIdOrderByCreatedDesc(itemId).stream()
-				.map(r -> new ReviewFormDto(r.getId(), r.getItem().getName(), r.getItem().getId(),
-						r.getMember().getUsername(), r.getContent(), r.getCreated()))
+		// 2) 내 찜 여부 / 판매자 상품 수 (1 쿼리, 찜 수는 item.like_count)
+		Long sellerId = item.getSeller() != null ? item.getSeller().getId() : null;
+		ItemDetailCounts counts = itemRepository.findDetailCounts(itemId, memberId, sellerId);
+		boolean isLiked = counts.getLikedByMe() > 0;
+		int likeCount = item.getLikeCount();
+		int sellerItemCount = (int) counts.getSellerItemCount();
+
+		// 3) 리뷰 목록 + 작성자 (1 쿼리)
+		List<ReviewFormDto> reviews = reviewRepository.findWithMemberByItemId(itemId).stream()
+				.map(r -> new ReviewFormDto(r.getId(), r.getMember().getUsername(), item.getId(), item.getName(),
+						r.getContent(), r.getCreated()))
 				.toList();
 
-		List<String> imageUrls = item.getImages().stream().map(ItemImg::getImgUrl).toList();
+		List<String> imageUrls = item.getImages().stream().map(ItemImg::largeOrOriginal).map(imageDelivery::url)
+				.toList(); // 상세는 큰 사이즈
 
 		Category childCategory = item.getCategoryId();
 		Category parentCategory = childCategory.getParent();
@@ -189,7 +244,7 @@ public class ItemService {
 				.status(item.getStatus())
 				.parentCategoryId(parentCategoryId)
 				.created(item.getCreated())
-				.viewCount(item.getViewCount())
+				.viewCount(item.getViewCount() + (int) itemViewCounter.pendingCount(itemId))
 				.imgUrls(imageUrls)
 				.reviews(reviews)
 				.likeCount(likeCount)
@@ -219,6 +274,7 @@ public class ItemService {
 		item.setStatus(ItemSellStatus.TRADING);
 		item.setBuyer(buyer);
 		itemRepository.save(item);
+		eventPublisher.publishEvent(ItemSearchDocument.from(item));
 	}
 
 	// 거래중지 (판매자만)
@@ -237,6 +293,7 @@ public class ItemService {
 
 		item.setStatus(ItemSellStatus.STOPPED);
 		itemRepository.save(item);
+		eventPublisher.publishEvent(ItemSearchDocument.from(item));
 	}
 
 	// 거래재개 (판매자만)
@@ -256,6 +313,7 @@ public class ItemService {
 		item.setStatus(ItemSellStatus.SELL);
 		item.setBuyer(null); // 구매자 정보 초기화
 		itemRepository.save(item);
+		eventPublisher.publishEvent(ItemSearchDocument.from(item));
 	}
 
 	// 결제완료 처리 (구매자 전용)
@@ -279,19 +337,11 @@ public class ItemService {
 		item.setStatus(ItemSellStatus.COMPLETED);
 		item.setPurchasedAt(LocalDateTime.now());
 		itemRepository.save(item);
+		eventPublisher.publishEvent(ItemSearchDocument.from(item));
 		
 		log.info("상품 상태 변경 완료 - 상품ID: {}, 새 상태: {}", itemId, item.getStatus());
 	}
 
-	// 관리자 상품 삭제 (권한 전용 간편 메서드)
-	@Transactional
-	@PreAuthorize("hasRole('ADMIN')")
-	public void deleteItem(Long itemId) {
-		Item item = itemRepository.findById(itemId)
-				.orElseThrow(() -> new EntityNotFoundException("상품이 없습니다."));
-		itemRepository.delete(item);
-	}
-
 	// 상품 수정 폼 조회
 	@Transactional
 	@PreAuthorize("hasRole('ADMIN') or hasRole('USER')") // 관리자 또는 일반 사용자만 접근 가능
@@ -322,7 +372,7 @@ public class ItemService {
 		dto.setId(item.getId());
 		dto.setName(item.getName());
 		dto.setDescription(item.getDescription());
-		dto.setPrice(item.getPrice());
+		dto.setPrice(PriceUtil.toFormValue(item.getPrice()));
 		dto.setRegion(item.getRegion());
 
 		// 카테고리 ID 분리
@@ -363,13 +413,13 @@ public class ItemService {
 //				.imgIds(item.getImages().stream().map(ItemImg::getId).toList()).build();
 	}
 
-	// 상품 수정 처리
-	@Transactional
-	public void updateItem(ItemUpdateDto dto, Long memberId, Collection<? extends GrantedAuthority> authorities)
-			throws IOException {
-		// 상품 조회
-		Item item = itemRepository.findById(dto.getId()).orElseThrow(() -> new EntityNotFoundException("상품이 없습니다."));
+	// 수정 권한 확인 (이미지를 올리기 전에 먼저 거절)
+	public void checkEditable(Long itemId, Long memberId, Collection<? extends GrantedAuthority> authorities) {
+		checkEditable(itemRepository.findById(itemId).orElseThrow(() -> new EntityNotFoundException("상품이 없습니다.")),
+				memberId, authorities);
+	}
 
+	private void checkEditable(Item item, Long memberId, Collection<? extends GrantedAuthority> authorities) {
 		// 관리자 권한 체크
 		boolean isAdmin = authorities.stream().anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN"));
 
@@ -379,6 +429,20 @@ public class ItemService {
 				throw new AccessDeniedException("해당 상품에 대한 수정 권한이 없습니다.");
 			}
 		}
+	}
+
+	// 새로 올릴 파일 (빈 칸 제외, 폼 순서 그대로) - results 는 이 순서를 따른다
+	static List<MultipartFile> newImages(ItemUpdateDto dto) {
+		return nonEmpty(dto.getImages());
+	}
+
+	// 상품 수정 처리 - 이미지는 ItemUploadService 가 트랜잭션 밖에서 올려두고 결과만 받아 저장
+	@Transactional
+	public ImageUploadReport updateItem(ItemUpdateDto dto, Long memberId, Collection<? extends GrantedAuthority> authorities,
+			List<ImageUploadResult> results) {
+		// 상품 조회
+		Item item = itemRepository.findById(dto.getId()).orElseThrow(() -> new EntityNotFoundException("상품이 없습니다."));
+		checkEditable(item, memberId, authorities);
 
 		// 카테고리 조회 및 검증
 		Category child = categoryRepository.findById(dto.getChildCategoryId())
@@ -394,7 +458,7 @@ public class ItemService {
 		// 상품 정보 업데이트
 		item.setName(dto.getName());
 		item.setDescription(dto.getDescription());
-		item.setPrice(dto.getPrice());
+		item.setPrice(PriceUtil.parse(dto.getPrice()));
 		item.setRegion(dto.getRegion());
 		item.setCategoryId(child);
 
@@ -410,23 +474,31 @@ public class ItemService {
 
 		List<MultipartFile> newFiles = dto.getImages() != null ? dto.getImages() : List.of();
 
-		// 기존 이미지 업데이트
-		int i = 0;
-		for (; i < imgIds.size() && i < newFiles.size(); i++) {
+		// 교체(앞쪽 imgIds 자리) / 추가(나머지) 대상 - newImages() 와 같은 순서
+		List<Long> targets = new ArrayList<>(); // null 이면 새 이미지
+		for (int i = 0; i < newFiles.size(); i++) {
 			MultipartFile file = newFiles.get(i);
 			if (file != null && !file.isEmpty()) {
-				itemImgService.updateItemImg(imgIds.get(i), file);
+				targets.add(i < imgIds.size() ? imgIds.get(i) : null);
 			}
 		}
 
-		// 새로운 이미지 추가
-		for (; i < newFiles.size(); i++) {
-			MultipartFile file = newFiles.get(i);
-			if (file != null && !file.isEmpty()) {
-				ItemImg newImg = itemImgService.uploadAndSaveItemImg(file, item);
-				item.getImages().add(newImg);
+		// 기존 이미지 업데이트
+		List<ImageUploadResult> added = new ArrayList<>();
+		for (int i = 0; i < results.size(); i++) {
+			ImageUploadResult result = results.get(i);
+			if (targets.get(i) == null) {
+				added.add(result);
+			} else if (result.success()) {
+				itemImgService.replaceItemImg(targets.get(i), result);
 			}
 		}
+
+		// 새로운 이미지 추가
+		addImages(item, added);
+
+		eventPublisher.publishEvent(ItemSearchDocument.from(item));
+		return ImageUploadReport.of(item.getId(), results);
 	}
 
 	// 상품 삭제
@@ -447,15 +519,42 @@ public class ItemService {
 			}
 		}
 
-		// 상품 삭제
+		// 상품 삭제 (이미지 행은 함께 삭제, S3 파일은 정리 대기열로)
+		storageGc.enqueueUrls(
+				item.getImages().stream().flatMap(img -> ItemImgService.fileUrls(img).stream()).toList());
 		itemRepository.delete(item);
+		eventPublisher.publishEvent(ItemSearchDocument.removed(itemId));
+	}
+
+	// DTO 변환 - 카드 목록은 썸네일을 한 번에 조회 (상품 N개 → 쿼리 1번, item.getImages() 지연로딩 X)
+	private List<ItemCardDto> toItemCards(List<Item> items) {
+		if (items.isEmpty()) {
+			return List.of();
+		}
+		Map<Long, ItemThumbnail> thumbnails = new HashMap<>();
+		for (ItemThumbnail t : itemImgRepository.findFirstThumbnails(items.stream().map(Item::getId).toList())) {
+			thumbnails.put(t.getItemId(), t);
+		}
+
+		return items.stream().map(item -> toItemCardDto(item, thumbnails.get(item.getId()))).toList();
+	}
+
+	private Page<ItemCardDto> toCardPage(Page<Item> page) {
+		return new PageImpl<>(toItemCards(page.getContent()), page.getPageable(), page.getTotalElements());
+	}
+
+	private ItemCardDto toItemCardDto(Item item, ItemThumbnail thumbnail) {
+		return ItemCardDto.builder().itemId(item.getId()).name(item.getName())
+				.thumbnailUrl(thumbnail != null ? imageDelivery.url(thumbnail.getThumbnailUrl()) : null)
+				.mediumUrl(thumbnail != null ? imageDelivery.url(thumbnail.getMediumUrl()) : null)
+				.price(item.getPrice())
+				.status(item.getStatus())
+				.created(item.getCreated())
+				.build();
 	}
 
-	// DTO 변환
-	private ItemCardDto toItemCardDto(Item item) {
-		String thumbnail = item.getImages().isEmpty() ? null : item.getImages().get(0).getThumbnailUrl();
-		return ItemCardDto.builder().itemId(item.getId()).name(item.getName()).thumbnailUrl(thumbnail)
-				.price(item.getPrice()).status(item.getStatus()).created(item.getCreated()).build();
+	private String cursorOf(Item item) {
+		return new ItemCursor(item.getCreated(), item.getId()).encode();
 	}
 
 	private ItemListDto toItemListDto(Item item) {
@@ -0,0 +1,53 @@
+package com.shop.tradezone.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Service;
+
+import com.shop.tradezone.dto.ImageUploadReport;
+import com.shop.tradezone.dto.ImageUploadResult;
+import com.shop.tradezone.dto.ItemFormDto;
+import com.shop.tradezone.dto.ItemUpdateDto;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 등록/수정 (트랜잭션 없음) - 리사이즈 + S3 업로드를 먼저 끝내고 ItemService 의 짧은 트랜잭션에서 상품/이미지 행만 저장
+ * (업로드 동안 DB 커넥션과 새 행을 잡고 있지 않음) - 저장이 실패하면 올려둔 파일은 정리 대기열로
+ */
+@Service
+@RequiredArgsConstructor
+public class ItemUploadService {
+
+	private final ItemService itemService;
+	private final ItemImgService itemImgService;
+	private final StorageGarbageCollector storageGc;
+
+	// 상품 등록
+	public ImageUploadReport createItem(ItemFormDto dto, Long sellerId) {
+		List<ImageUploadResult> results = itemImgService.uploadAll(ItemService.nonEmpty(dto.getImages()));
+		return saveOrDiscard(results, () -> itemService.createItem(dto, sellerId, results));
+	}
+
+	// 상품 수정 - 권한이 없으면 올리기 전에 거절
+	public ImageUploadReport updateItem(ItemUpdateDto dto, Long memberId,
+			Collection<? extends GrantedAuthority> authorities) {
+		itemService.checkEditable(dto.getId(), memberId, authorities);
+		List<ImageUploadResult> results = itemImgService.uploadAll(ItemService.newImages(dto));
+		return saveOrDiscard(results, () -> itemService.updateItem(dto, memberId, authorities, results));
+	}
+
+	private ImageUploadReport saveOrDiscard(List<ImageUploadResult> results, Supplier<ImageUploadReport> save) {
+		try {
+			return save.get();
+		} catch (RuntimeException e) {
+			storageGc.discardUrls(results.stream().filter(ImageUploadResult::success)
+					.flatMap(r -> Stream.of(r.imgUrl(), r.largeUrl(), r.mediumUrl(), r.thumbnailUrl())).toList());
+			throw e;
+		}
+	}
+}
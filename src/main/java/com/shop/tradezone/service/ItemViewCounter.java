@@ -0,0 +1,103 @@
+package com.shop.tradezone.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 조회수 (write-behind) - 상세 조회마다 Item 행을 UPDATE 하지 않고 메모리에 누적 - 주기적으로 "view_count =
+ * view_count + ?" 배치 UPDATE 로 반영 (행 잠금 시간 최소화, 판매자 수정과 충돌 X) - 같은 회원/세션의 반복 조회는 일정
+ * 시간 동안 1회로 계산
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemViewCounter {
+
+	// 중복 조회 기록이 너무 커지면 통째로 비운다 (메모리 상한)
+	private static final int MAX_RECENT_VIEWERS = 100_000;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	// itemId → 아직 DB 에 반영되지 않은 조회수 (ConcurrentHashMap 의 bin 단위 잠금으로 상품별 분산)
+	private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+
+	// "itemId:viewerKey" → 마지막으로 집계한 시각(ms)
+	private final Map<String, Long> recentViewers = new ConcurrentHashMap<>();
+
+	@Value("${tradezone.view-count.dedupe-minutes:30}")
+	private long dedupeMinutes;
+
+	// 조회 1건 기록 (viewerKey 가 null 이면 중복 제거 없이 집계)
+	public void record(Long itemId, String viewerKey) {
+		if (viewerKey != null && dedupeMinutes > 0) {
+			long now = System.currentTimeMillis();
+			boolean[] counted = { false };
+			// 집계할 때만 시각 갱신 (중복으로 버린 조회는 기존 시각 유지 → 창이 계속 밀리지 않음)
+			recentViewers.compute(itemId + ":" + viewerKey, (k, last) -> {
+				if (last != null && now - last < dedupeMinutes * 60_000) {
+					return last;
+				}
+				counted[0] = true;
+				return now;
+			});
+			if (!counted[0]) {
+				return;
+			}
+		}
+		pending.merge(itemId, 1L, Long::sum);
+	}
+
+	// 아직 반영 전인 조회수 (화면 표시 보정용)
+	public long pendingCount(Long itemId) {
+		return pending.getOrDefault(itemId, 0L);
+	}
+
+	@Scheduled(fixedDelayString = "${tradezone.view-count.flush-ms:5000}")
+	public void flush() {
+		List<Object[]> batch = new ArrayList<>();
+		for (Long itemId : pending.keySet()) {
+			Long delta = pending.remove(itemId); // remove 는 원자적 → 이후 조회는 새 항목으로 누적
+			if (delta != null && delta > 0) {
+				batch.add(new Object[] { delta, itemId });
+			}
+		}
+
+		if (!batch.isEmpty()) {
+			try {
+				jdbcTemplate.batchUpdate("update item set view_count = view_count + ? where item_id = ?", batch);
+			} catch (RuntimeException e) {
+				// 실패분은 다시 쌓아 두고 다음 주기에 재시도
+				batch.forEach(row -> pending.merge((Long) row[1], (Long) row[0], Long::sum));
+				log.warn("조회수 반영 실패 - {}건 재시도 예정", batch.size(), e);
+			}
+		}
+
+		evictRecentViewers();
+	}
+
+	private void evictRecentViewers() {
+		if (recentViewers.size() > MAX_RECENT_VIEWERS) {
+			recentViewers.clear();
+			return;
+		}
+		long expireBefore = System.currentTimeMillis() - dedupeMinutes * 60_000;
+		recentViewers.values().removeIf(seenAt -> seenAt < expireBefore);
+	}
+
+	// 종료 시 남은 조회수 반영
+	@PreDestroy
+	public void flushOnShutdown() {
+		flush();
+	}
+}
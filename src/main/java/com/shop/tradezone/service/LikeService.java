@@ -5,11 +5,14 @@ import java.util.List;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.shop.tradezone.dto.LikeToggleDto;
 import com.shop.tradezone.entity.Item;
 import com.shop.tradezone.entity.Like;
 import com.shop.tradezone.entity.Member;
+import com.shop.tradezone.repository.ItemRepository;
 import com.shop.tradezone.repository.LikeRepository;
 
+import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -19,22 +22,29 @@ import lombok.extern.slf4j.Slf4j;
 public class LikeService {
 
 	private final LikeRepository likeRepository;
+	private final ItemRepository itemRepository;
 
-	// 찜토글@return true면 ON(생성됨), false면 OFF(삭제됨)
+	// 찜토글 - 존재 여부를 먼저 묻지 않고(check-then-act X) 삭제 → 없으면 INSERT IGNORE
+	// uk_like_member_item 유니크 제약이 중복을 막고, item.like_count 는 같은 트랜잭션에서 증감
 	@Transactional
-	public boolean toggle(Item item, Member member) {
-		boolean exists = likeRepository.existsByItemAndMember(item, member);
-		
-		if (exists) {
-			// 이미 찜되어 있으면 해제(OFF)
-			likeRepository.deleteByItemAndMember(item, member);
-			return false;
+	public LikeToggleDto toggle(Long itemId, Long memberId) {
+		boolean liked;
+
+		if (likeRepository.deleteByItemIdAndMemberId(itemId, memberId) > 0) {
+			// 이미 찜되어 있었으면 해제(OFF)
+			itemRepository.addLikeCount(itemId, -1);
+			liked = false;
 		} else {
-			// 없으면 생성(ON)
-			Like like = Like.builder().item(item).member(member).build();
-			likeRepository.save(like);
-			return true;
+			// 없으면 생성(ON) - 동시에 같은 요청이 들어와도 한 건만 들어가고 나머지는 0 반환
+			if (likeRepository.insertIgnore(itemId, memberId) > 0) {
+				itemRepository.addLikeCount(itemId, 1);
+			}
+			liked = true;
 		}
+
+		int count = itemRepository.findLikeCountById(itemId)
+				.orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다."));
+		return new LikeToggleDto(liked, count);
 	}
 
 	// 현재 유저가 해당 아이템을 찜했는지 여부
@@ -44,10 +54,9 @@ public class LikeService {
 	}
 
 	// 찜 개수 가져오기
-	// 특정 상품에 대해 몇 명이 찜했는지 개수를 반환하는 메서드
+	// 특정 상품에 대해 몇 명이 찜했는지 개수를 반환하는 메서드 (COUNT 대신 item.like_count 사용)
 	public long countLikes(Item item) {
-		// 특정 상품에 대한 찜 개수를 반환
-		return likeRepository.countByItem(item);
+		return item.getLikeCount();
 	}
 
 	// 유저의 찜 목록 가져오기 (마이페이지 용)
@@ -58,10 +67,21 @@ public class LikeService {
 	}
 
 	// 아이템 삭제 시 관련 찜도 삭제
-	// 상품이 삭제될 때 해당 상품을 찜한 기록들도 함께 삭제하는 메서드
+	// 상품이 삭제될 때 해당 상품을 찜한 기록들도 함께 삭제하는 메서드 (지운 만큼 like_count 도 차감)
+	@Transactional
 	public void deleteLikesByItem(Item item) {
 		// 해당 상품에 대한 찜 기록들을 모두 삭제
-		likeRepository.deleteByItem(item);
+		long deleted = likeRepository.deleteByItem(item);
+		if (deleted > 0) {
+			itemRepository.addLikeCount(item.getId(), (int) -deleted);
+		}
+	}
+
+	// 회원 탈퇴 시 그 회원의 찜 삭제 - 찜했던 상품들의 like_count 를 먼저 내리고 행 삭제
+	@Transactional
+	public void deleteLikesByMember(Long memberId) {
+		itemRepository.decreaseLikeCountsByMember(memberId);
+		likeRepository.deleteByMemberId(memberId);
 	}
 
-}
\ No newline at end of file
+}
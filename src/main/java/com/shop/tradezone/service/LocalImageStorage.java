@@ -0,0 +1,152 @@
+package com.shop.tradezone.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 디스크 이미지 저장소 (테스트/로컬 개발용) - tradezone.storage.type=local 일 때 S3 대신 사용 - 키 = local-dir 아래 상대 경로, URL
+ * 은 /img/{key} (이미지 프록시로만 읽음)
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "tradezone.storage.type", havingValue = "local")
+public class LocalImageStorage implements ImageStorage {
+
+	private final Path root;
+
+	public LocalImageStorage(@Value("${tradezone.storage.local-dir:./data/storage}") String dir) throws IOException {
+		this.root = Files.createDirectories(Path.of(dir)).toAbsolutePath().normalize();
+	}
+
+	@Override
+	public CompletableFuture<String> uploadAsync(ByteBuffer body, String key, String contentType) {
+		try {
+			Path file = resolve(key);
+			Files.createDirectories(file.getParent());
+			ByteBuffer src = body.duplicate(); // 호출한 쪽 버퍼 위치는 그대로
+			try (FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+					StandardOpenOption.TRUNCATE_EXISTING)) {
+				while (src.hasRemaining()) {
+					ch.write(src);
+				}
+			}
+			return CompletableFuture.completedFuture(urlOf(key));
+		} catch (IOException e) {
+			return CompletableFuture.failedFuture(new UncheckedIOException(e));
+		}
+	}
+
+	@Override
+	public CompletableFuture<Void> deleteFileAsync(String fileUrl) {
+		try {
+			Files.deleteIfExists(resolve(keyOf(fileUrl)));
+			return CompletableFuture.completedFuture(null);
+		} catch (IOException e) {
+			return CompletableFuture.failedFuture(new UncheckedIOException(e));
+		}
+	}
+
+	@Override
+	public List<String> deleteKeys(Collection<String> keys) {
+		List<String> failed = new ArrayList<>();
+		for (String key : keys) {
+			try {
+				Files.deleteIfExists(resolve(key));
+			} catch (IOException | IllegalArgumentException e) {
+				log.warn("로컬 이미지 삭제 실패 - {}", key, e);
+				failed.add(key);
+			}
+		}
+		return failed;
+	}
+
+	@Override
+	public void forEachKeyPage(String prefix, Instant olderThan, Consumer<List<String>> page) {
+		List<String> keys = new ArrayList<>();
+		try (Stream<Path> files = Files.walk(root)) {
+			for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+				String key = keyOfPath(file);
+				if (key.startsWith(prefix) && Files.getLastModifiedTime(file).toInstant().isBefore(olderThan)) {
+					keys.add(key);
+					if (keys.size() == MAX_DELETE_KEYS) {
+						page.accept(List.copyOf(keys));
+						keys.clear();
+					}
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		if (!keys.isEmpty()) {
+			page.accept(keys);
+		}
+	}
+
+	@Override
+	public Optional<StoredObject> open(String key) {
+		Path file = resolve(key);
+		if (!Files.isRegularFile(file)) {
+			return Optional.empty();
+		}
+		try {
+			String contentType = MediaTypeFactory.getMediaType(key).map(MediaType::toString).orElse(null);
+			return Optional.of(new StoredObject(Files.newInputStream(file), Files.size(file), contentType));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public String urlOf(String key) {
+		return ImageDelivery.PATH_PREFIX + key;
+	}
+
+	@Override
+	public String keyOf(String fileUrl) {
+		if (fileUrl.startsWith(ImageDelivery.PATH_PREFIX)) {
+			return fileUrl.substring(ImageDelivery.PATH_PREFIX.length());
+		}
+		try {
+			String path = new URI(fileUrl).getPath();
+			return path.startsWith("/") ? path.substring(1) : path;
+		} catch (URISyntaxException e) {
+			throw new IllegalArgumentException("잘못된 이미지 URL입니다.");
+		}
+	}
+
+	// root 밖으로 나가는 키(../) 는 거부
+	private Path resolve(String key) {
+		Path file = root.resolve(key).normalize();
+		if (!file.startsWith(root) || file.equals(root)) {
+			throw new IllegalArgumentException("잘못된 이미지 키입니다.");
+		}
+		return file;
+	}
+
+	private String keyOfPath(Path file) {
+		return root.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+	}
+}
@@ -21,6 +21,11 @@ public class MemberPrincipal implements UserDetails {
 		return member.getId();
 	}
 
+	// 화면에 보이는 이름 (getUsername 은 로그인 id = 이메일)
+	public String getDisplayName() {
+		return member.getUsername();
+	}
+
 	public String getEmail() {
 		return member.getEmail(); // 혹은 member.getEmail()
 	}
@@ -43,6 +43,10 @@ public class MemberService {
 
 	private final PasswordEncoder passwordEncoder;
 
+	private final ImageDelivery imageDelivery;
+
+	private final LikeService likeService;
+
 	public Member findByUsername(String username) {
 		return memberRepository.findByUsername(username)
 				.orElseThrow(() -> new IllegalArgumentException("해당 이름의 관리자 없음: " + username));
@@ -115,13 +119,16 @@ public class MemberService {
 			
 			// 상품 목록
 			if (member.getItems() != null) {
-				dto.setItems(member.getItems().stream().map(ItemCardDto::new).toList());
+				List<ItemCardDto> items = member.getItems().stream().map(ItemCardDto::new).toList();
+				items.forEach(c -> c.setThumbnailUrl(imageDelivery.url(c.getThumbnailUrl())));
+				dto.setItems(items);
 			}
 			
 			// 찜 목록
 			if (member.getLikes() != null) {
 				dto.setLikes(member.getLikes().stream().map(like -> {
 					LikeFormDto likeDto = new LikeFormDto(like);
+					likeDto.setImgUrl(imageDelivery.url(likeDto.getImgUrl()));
 					return likeDto;
 				}).toList());
 			}
@@ -267,6 +274,7 @@ public class MemberService {
 	// 회원 삭제
 	@PreAuthorize("hasRole('ADMIN')")
 	public void deleteMember(Long id) {
+		likeService.deleteLikesByMember(id); // 찜 수 차감 후 찜 행 삭제
 		memberRepository.deleteById(id);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,87 @@
+package com.shop.tradezone.service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.shop.tradezone.dto.ChatPresenceDto;
+import com.shop.tradezone.websocket.PresenceRegistry;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 접속/입력중 신호 방송 - 방을 보기 시작하고 그만 본 변화(가시성 신호)는 모았다가 주기마다 방별 1번만 보냄 - 입력중은 (방, 회원) 별로 일정 간격에 1번만
+ * 보냄 (키 입력마다 방송 X)
+ */
+@Service
+@RequiredArgsConstructor
+public class PresenceService {
+
+	private final PresenceRegistry presenceRegistry;
+	private final ChatMembershipCache membershipCache;
+	private final SimpMessagingTemplate messagingTemplate;
+
+	@Value("${tradezone.chat.typing-throttle-ms:2000}")
+	private long typingThrottleMs;
+
+	// 접속자 변화가 있어서 다음 주기에 알릴 방
+	private final Set<Long> dirtyRooms = ConcurrentHashMap.newKeySet();
+
+	// (방, 회원) → 마지막 입력중 방송 시각
+	private final Map<TypingKey, Long> lastTyping = new ConcurrentHashMap<>();
+
+	private record TypingKey(Long roomId, Long memberId) {
+	}
+
+	public void roomChanged(Long roomId) {
+		dirtyRooms.add(roomId);
+	}
+
+	@Scheduled(fixedDelayString = "${tradezone.chat.presence-flush-ms:1000}")
+	public void flushPresence() {
+		for (Long roomId : dirtyRooms) {
+			if (dirtyRooms.remove(roomId)) {
+				messagingTemplate.convertAndSend("/topic/chat." + roomId,
+						ChatPresenceDto.presence(roomId, presenceRegistry.viewers(roomId)));
+			}
+		}
+		// 오래된 입력중 기록 정리
+		long expired = System.currentTimeMillis() - typingThrottleMs * 10;
+		lastTyping.values().removeIf(at -> at < expired);
+	}
+
+	// 가시성 신호 (탭이 보이고 포커스가 있으면 true) - 보는 중이 바뀌면 다음 주기에 방송
+	public void visibility(Long roomId, Long memberId, String sessionId, boolean visible) {
+		if (!membershipCache.isRoomMember(roomId, memberId)) {
+			throw new IllegalStateException("해당 채팅방의 참가자가 아닙니다.");
+		}
+		if (presenceRegistry.visibility(sessionId, roomId, visible)) {
+			roomChanged(roomId);
+		}
+	}
+
+	// 이 세션이 방을 화면에 띄우고 있을 때만 읽음 처리
+	public boolean isVisible(String sessionId, Long roomId) {
+		return presenceRegistry.isVisible(sessionId, roomId);
+	}
+
+	public void typing(Long roomId, Long memberId) {
+		if (!membershipCache.isRoomMember(roomId, memberId)) {
+			throw new IllegalStateException("해당 채팅방의 참가자가 아닙니다.");
+		}
+		long now = System.currentTimeMillis();
+		boolean[] send = { false };
+		lastTyping.compute(new TypingKey(roomId, memberId), (key, prev) -> {
+			send[0] = prev == null || now - prev >= typingThrottleMs;
+			return send[0] ? now : prev;
+		});
+		if (send[0]) {
+			messagingTemplate.convertAndSend("/topic/chat." + roomId, ChatPresenceDto.typing(roomId, memberId));
+		}
+	}
+}
@@ -1,101 +1,122 @@
 package com.shop.tradezone.service;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
-import java.util.Objects;
-import java.util.UUID;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import software.amazon.awssdk.core.exception.SdkException;
-import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Object;
 
 @Service
+@ConditionalOnProperty(name = "tradezone.storage.type", havingValue = "s3", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
-public class S3Service {
+public class S3Service implements ImageStorage {
 
-	private final S3Client s3Client;
+	private final S3Client s3Client; // URL 계산 + 백그라운드 작업(일괄 삭제/목록)
+	private final S3AsyncClient s3AsyncClient;
 
 	@Value("${aws.s3.bucket-name}")
 	private String bucketName;
 
-	// [1] MultipartFile 리스트 업로드 (원본 그대로)
-	public List<String> upload(List<MultipartFile> files) {
-		return files.stream().map(this::uploadImage).toList();
-	}
+	// 모든 화면이 /img 프록시를 거치게 되면 false 로 (버킷 비공개, ACL 없는 버킷도 가능)
+	@Value("${aws.s3.public-read:true}")
+	private boolean publicRead;
 
-	// [2] MultipartFile 하나 업로드
-	private String uploadImage(MultipartFile file) {
-		validateFile(file.getOriginalFilename());
-		return uploadImageToS3(file);
-	}
+	// [1] 인코딩 결과 업로드 (리사이징 후 호출) - 완료되면 URL, 큰 파일은 클라이언트가 멀티파트로 나눠 보냄
+	// fromByteBufferUnsafe: 버퍼를 복사하지 않고 그대로 전송 (호출한 쪽은 완료 전까지 버퍼를 바꾸지 않는다)
+	@Override
+	public CompletableFuture<String> uploadAsync(ByteBuffer body, String fileName, String contentType) {
+		PutObjectRequest request = PutObjectRequest.builder().bucket(bucketName).key(fileName).contentType(contentType)
+				.contentLength((long) body.remaining()).acl(publicRead ? ObjectCannedACL.PUBLIC_READ : null).build();
 
-	// [3] MultipartFile → InputStream 업로드 (직접 S3)
-	private String uploadImageToS3(MultipartFile file) {
-		String originalFilename = file.getOriginalFilename();
-		String extension = Objects.requireNonNull(originalFilename).substring(originalFilename.lastIndexOf('.') + 1);
-		String s3FileName = UUID.randomUUID().toString().substring(0, 10) + "_" + originalFilename;
+		return s3AsyncClient.putObject(request, AsyncRequestBody.fromByteBufferUnsafe(body))
+				.thenApply(r -> urlOf(fileName));
+	}
 
-		try (InputStream inputStream = file.getInputStream()) {
-			PutObjectRequest putRequest = PutObjectRequest.builder().bucket(bucketName).key(s3FileName)
-					.contentType("image/" + extension).acl(ObjectCannedACL.PUBLIC_READ).contentLength(file.getSize())
-					.build();
+	// [2] S3 URL로 파일 삭제 (업로드 실패 정리용 - 그 외 삭제는 StorageGarbageCollector 로)
+	@Override
+	public CompletableFuture<Void> deleteFileAsync(String fileUrl) {
+		DeleteObjectRequest deleteRequest = DeleteObjectRequest.builder().bucket(bucketName).key(keyOf(fileUrl))
+				.build();
 
-			s3Client.putObject(putRequest, RequestBody.fromInputStream(inputStream, file.getSize()));
+		return s3AsyncClient.deleteObject(deleteRequest).thenApply(r -> null);
+	}
 
-		} catch (IOException | SdkException e) { // IOException 외에 AWS SDK 예외도 잡기
-			log.error("S3 업로드 실패", e); // 예외 로그 확실히 남기기
-			throw new RuntimeException("S3 업로드 실패", e); // 예외 다시 던져서 트랜잭션 롤백 유도
+	// [3] 여러 객체 한 번에 삭제 (최대 1000개) - 실패한 키만 반환 (없는 키는 성공으로 침)
+	@Override
+	public List<String> deleteKeys(Collection<String> keys) {
+		List<ObjectIdentifier> ids = keys.stream().map(k -> ObjectIdentifier.builder().key(k).build()).toList();
+		DeleteObjectsResponse response = s3Client
+				.deleteObjects(b -> b.bucket(bucketName).delete(d -> d.objects(ids).quiet(true)));
+		for (S3Error error : response.errors()) {
+			log.warn("S3 삭제 실패 - {} ({} {})", error.key(), error.code(), error.message());
 		}
-
-		return s3Client.utilities().getUrl(builder -> builder.bucket(bucketName).key(s3FileName)).toString();
+		return response.errors().stream().map(S3Error::key).toList();
 	}
 
-	// [4] byte[] 기반 이미지 업로드 (리사이징 후 호출)
-	public String upload(byte[] bytes, String fileName, String contentType) {
-		PutObjectRequest request = PutObjectRequest.builder().bucket(bucketName).key(fileName).contentType(contentType)
-				.acl(ObjectCannedACL.PUBLIC_READ).build();
-
-		s3Client.putObject(request, RequestBody.fromBytes(bytes));
-
-		return s3Client.utilities().getUrl(builder -> builder.bucket(bucketName).key(fileName)).toString();
+	// [4] prefix 아래 객체 중 olderThan 이전에 올라간 것만 페이지(최대 1000개) 단위로 넘김
+	@Override
+	public void forEachKeyPage(String prefix, Instant olderThan, Consumer<List<String>> page) {
+		s3Client.listObjectsV2Paginator(b -> b.bucket(bucketName).prefix(prefix)).forEach(response -> {
+			List<String> keys = response.contents().stream().filter(o -> o.lastModified().isBefore(olderThan))
+					.map(S3Object::key).toList();
+			if (!keys.isEmpty()) {
+				page.accept(keys);
+			}
+		});
 	}
 
-	// [5] S3 URL로 파일 삭제
-	public void deleteFile(String fileUrl) {
-		String key = extractKeyFromUrl(fileUrl);
-
-		DeleteObjectRequest deleteRequest = DeleteObjectRequest.builder().bucket(bucketName).key(key).build();
+	// [5] 객체 읽기 (/img 프록시용) - 스트림은 호출한 쪽이 닫는다
+	@Override
+	public Optional<StoredObject> open(String key) {
+		try {
+			ResponseInputStream<GetObjectResponse> in = s3Client.getObject(b -> b.bucket(bucketName).key(key));
+			return Optional.of(new StoredObject(in, in.response().contentLength(), in.response().contentType()));
+		} catch (NoSuchKeyException e) {
+			return Optional.empty();
+		}
+	}
 
-		s3Client.deleteObject(deleteRequest);
+	@Override
+	public String urlOf(String key) {
+		return s3Client.utilities().getUrl(builder -> builder.bucket(bucketName).key(key)).toString();
 	}
 
 	// [6] URL → S3 key 추출
-	private String extractKeyFromUrl(String fileUrl) {
+	@Override
+	public String keyOf(String fileUrl) {
 		try {
 			URI uri = new URI(fileUrl);
 			String path = uri.getPath();
-			return path.startsWith("/") ? path.substring(1) : path;
+			path = path.startsWith("/") ? path.substring(1) : path;
+			// path-style (로컬 S3 호환 서버) 는 경로가 bucket/key
+			return path.startsWith(bucketName + "/") ? path.substring(bucketName.length() + 1) : path;
 		} catch (URISyntaxException e) {
 			throw new IllegalArgumentException("잘못된 S3 URL입니다.");
 		}
 	}
-
-	private void validateFile(String filename) {
-		if (filename == null || filename.isBlank()) {
-			throw new IllegalArgumentException("파일명이 비어 있습니다.");
-		}
-	}
 }
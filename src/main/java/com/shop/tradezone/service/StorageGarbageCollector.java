@@ -0,0 +1,142 @@
+package com.shop.tradezone.service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * S3 객체 정리 (outbox) - 이미지 행을 지우거나 교체하는 트랜잭션 안에서 지울 키만 storage_deletion 에 기록 (요청 중 S3 호출 X,
+ * 롤백되면 기록도 같이 취소) - 주기적으로 모아서 DeleteObjects(최대 1000개) 로 지우고, 실패한 키는 점점 늦게 다시 시도 - 하루
+ * 1번 images/ 아래 객체 중 어떤 이미지 행도 가리키지 않는 것(예전에 남은 고아 파일)을 찾아 같은 큐에 넣는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StorageGarbageCollector {
+
+	private static final String IMAGE_PREFIX = "images/";
+
+	private static final String INSERT = "insert ignore into storage_deletion "
+			+ "(object_key, attempts, next_attempt_at, created_at) values (?, 0, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final ImageStorage storage;
+
+	@Value("${tradezone.storage.retry-base-seconds:30}")
+	private long retryBaseSeconds;
+
+	// 업로드 직후 아직 DB 에 저장되기 전인 객체를 고아로 보지 않도록
+	@Value("${tradezone.storage.sweep-grace-hours:24}")
+	private long sweepGraceHours;
+
+	// 트랜잭션 안에서만 (행 삭제와 함께 커밋/롤백)
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void enqueueUrls(Collection<String> urls) {
+		enqueueKeys(urls.stream().filter(Objects::nonNull).map(storage::keyOf).distinct().toList());
+	}
+
+	// 저장에 실패해 어떤 행도 가리키지 않는 업로드 (트랜잭션 밖에서 호출 → 바로 기록)
+	@Transactional
+	public void discardUrls(Collection<String> urls) {
+		enqueueKeys(urls.stream().filter(Objects::nonNull).map(storage::keyOf).distinct().toList());
+	}
+
+	private void enqueueKeys(List<String> keys) {
+		if (keys.isEmpty()) {
+			return;
+		}
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		jdbcTemplate.batchUpdate(INSERT, keys.stream().map(k -> new Object[] { k, now, now }).toList());
+	}
+
+	@Scheduled(fixedDelayString = "${tradezone.storage.drain-ms:5000}", scheduler = "storageScheduler")
+	public void drain() {
+		List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+				"select id, object_key, attempts from storage_deletion where next_attempt_at <= ? order by id limit ?",
+				Timestamp.valueOf(LocalDateTime.now()), ImageStorage.MAX_DELETE_KEYS);
+		if (rows.isEmpty()) {
+			return;
+		}
+		Map<String, Map<String, Object>> byKey = rows.stream()
+				.collect(Collectors.toMap(r -> (String) r.get("object_key"), Function.identity()));
+
+		Set<String> failed;
+		try {
+			failed = new HashSet<>(storage.deleteKeys(byKey.keySet()));
+		} catch (RuntimeException e) {
+			log.warn("S3 일괄 삭제 실패 - {}건 다음에 다시 시도", rows.size(), e);
+			failed = byKey.keySet();
+		}
+
+		List<Object[]> done = new ArrayList<>();
+		List<Object[]> retry = new ArrayList<>();
+		for (Map.Entry<String, Map<String, Object>> e : byKey.entrySet()) {
+			Object id = e.getValue().get("id");
+			if (failed.contains(e.getKey())) {
+				int attempts = ((Number) e.getValue().get("attempts")).intValue() + 1;
+				retry.add(new Object[] { attempts, Timestamp.valueOf(LocalDateTime.now().plus(backoff(attempts))), id });
+			} else {
+				done.add(new Object[] { id });
+			}
+		}
+		if (!done.isEmpty()) {
+			jdbcTemplate.batchUpdate("delete from storage_deletion where id = ?", done);
+		}
+		if (!retry.isEmpty()) {
+			jdbcTemplate.batchUpdate("update storage_deletion set attempts = ?, next_attempt_at = ? where id = ?",
+					retry);
+		}
+		log.info("S3 객체 정리 - 삭제 {}건, 재시도 대기 {}건", done.size(), retry.size());
+	}
+
+	// 30초, 1분, 2분 ... 최대 6시간
+	private Duration backoff(int attempts) {
+		long seconds = retryBaseSeconds << Math.min(attempts - 1, 20);
+		return Duration.ofSeconds(Math.min(seconds, Duration.ofHours(6).toSeconds()));
+	}
+
+	// 고아 객체 찾기 - 이미지 행이 가리키는 키를 모두 모은 뒤 S3 목록과 비교 (URL 이 아니라 키로 비교 → 도메인/설정이 바뀌어도 안전)
+	@Scheduled(cron = "${tradezone.storage.sweep-cron:0 30 4 * * *}", scheduler = "storageScheduler")
+	public void sweep() {
+		Set<String> referenced = new HashSet<>();
+		jdbcTemplate.query("select img_url, large_url, medium_url, thumbnail_url from item_img", rs -> {
+			for (int i = 1; i <= 4; i++) {
+				String url = rs.getString(i);
+				if (url != null) {
+					referenced.add(storage.keyOf(url));
+				}
+			}
+		});
+
+		Instant olderThan = Instant.now().minus(Duration.ofHours(sweepGraceHours));
+		int[] orphans = { 0 };
+		storage.forEachKeyPage(IMAGE_PREFIX, olderThan, keys -> {
+			List<String> page = keys.stream().filter(k -> !referenced.contains(k)).toList();
+			enqueueKeys(page);
+			orphans[0] += page.size();
+		});
+		if (orphans[0] > 0) {
+			log.info("S3 고아 객체 {}건 정리 대기열에 추가", orphans[0]);
+		}
+	}
+}
@@ -0,0 +1,229 @@
+package com.shop.tradezone.service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+import com.shop.tradezone.constant.TradeEventType;
+import com.shop.tradezone.constant.TradePendingType;
+import com.shop.tradezone.constant.TradeStatus;
+import com.shop.tradezone.dto.TradeSignalDto;
+import com.shop.tradezone.repository.TradeRepository;
+import com.shop.tradezone.repository.TradeSnapshot;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 거래 상태 엔진 - 진행 중(종료 전) 거래 상태를 메모리에 두고 거래마다 한 번에 하나씩 전이 - 전이 가능 여부는 메모리 상태로만 판단 (조회/버전
+ * 충돌/재시도 X) → 동시에 눌린 승인/거절은 먼저 잠금을 잡은 쪽만 성공, 뒤에 온 쪽은 바뀐 상태 기준으로 거절 - 통과한 전이만
+ * TradeEventStore 로 기록 후 채팅방에 신호 1건 방송 - 완료/무산된 거래, idle-evict-ms 동안 전이가 없던 거래는 메모리에서 뺀다
+ * (다음 요청 때 DB 에서 다시 적재)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TradeEngine {
+
+	private final TradeRepository tradeRepository;
+	private final TradeEventStore eventStore;
+	private final ChatMembershipCache membershipCache;
+	private final SimpMessagingTemplate messagingTemplate;
+
+	@Value("${tradezone.trade.idle-evict-ms:600000}")
+	private long idleEvictMs;
+
+	// tradeId → 진행 중 거래 (잠금 단위)
+	private final Map<Long, Slot> active = new ConcurrentHashMap<>();
+
+	/** 거래 상태 (불변, 전이마다 새로 만듦) */
+	public record TradeState(Long tradeId, Long roomId, Long buyerId, Long sellerId, TradeStatus status,
+			TradePendingType pendingType, Long requestedById, LocalDateTime requestedAt, String reason, long seq) {
+
+		boolean isTerminal() {
+			return status == TradeStatus.COMPLETED || status == TradeStatus.ENDED;
+		}
+
+		boolean isParticipant(Long memberId) {
+			return memberId != null && (memberId.equals(buyerId) || memberId.equals(sellerId));
+		}
+
+		TradeState next(TradeEventType type, Long actorId, String newReason, LocalDateTime now) {
+			switch (type) {
+			case REQUEST_COMPLETE, REQUEST_CANCEL -> {
+				if (isTerminal() || pendingType != TradePendingType.NONE)
+					throw new IllegalStateException("요청 불가 상태입니다.");
+			}
+			case APPROVE_COMPLETE, REJECT_COMPLETE -> {
+				if (status != TradeStatus.COMPLETE_REQUESTED || pendingType != TradePendingType.COMPLETE)
+					throw new IllegalStateException("완료 대기 상태가 아닙니다.");
+				if (actorId.equals(requestedById))
+					throw new IllegalStateException("요청 당사자는 승인/거절할 수 없습니다.");
+			}
+			case APPROVE_CANCEL, REJECT_CANCEL -> {
+				if (status != TradeStatus.PENDING || pendingType != TradePendingType.CANCEL)
+					throw new IllegalStateException("취소 대기 상태가 아닙니다.");
+				if (actorId.equals(requestedById))
+					throw new IllegalStateException("요청 당사자는 승인/거절할 수 없습니다.");
+			}
+			}
+			return switch (type) {
+			case REQUEST_COMPLETE ->
+				with(TradeStatus.COMPLETE_REQUESTED, TradePendingType.COMPLETE, actorId, now, reason);
+			case APPROVE_COMPLETE -> with(TradeStatus.COMPLETED, TradePendingType.NONE, null, null, reason);
+			case REJECT_COMPLETE -> with(TradeStatus.PENDING, TradePendingType.NONE, null, null, reason);
+			case REQUEST_CANCEL -> with(TradeStatus.PENDING, TradePendingType.CANCEL, actorId, now, newReason);
+			case APPROVE_CANCEL -> with(TradeStatus.ENDED, TradePendingType.NONE, null, null, reason);
+			case REJECT_CANCEL -> with(TradeStatus.PENDING, TradePendingType.NONE, null, null, null); // 사유 비움
+			};
+		}
+
+		private TradeState with(TradeStatus s, TradePendingType p, Long requester, LocalDateTime at, String r) {
+			return new TradeState(tradeId, roomId, buyerId, sellerId, s, p, requester, at, r, seq + 1);
+		}
+	}
+
+	private static final class Slot {
+		private TradeState state;
+		private boolean stale; // 저장 실패로 버려진 슬롯 (대기하던 요청은 거절)
+		private boolean evicted; // 오래 안 써서 뺀 슬롯 (대기하던 요청은 새 슬롯으로 다시)
+		private long lastUsedAt = System.currentTimeMillis();
+
+		Slot(TradeState state) {
+			this.state = state;
+		}
+	}
+
+	/**
+	 * 전이 1건 - expectedSeq 가 있으면 클라이언트가 본 상태와 같을 때만 (예전 요청에 대한 승인이 새 요청에 적용되는 것 방지)
+	 */
+	public TradeSignalDto apply(Long tradeId, TradeEventType type, Long actorId, String actorName, String reason,
+			Long expectedSeq) {
+		while (true) {
+			Slot slot = slot(tradeId);
+			synchronized (slot) {
+				if (slot.evicted) {
+					continue;
+				}
+				slot.lastUsedAt = System.currentTimeMillis();
+				return apply(slot, tradeId, type, actorId, actorName, reason, expectedSeq);
+			}
+		}
+	}
+
+	// slot 잠금 안에서만
+	private TradeSignalDto apply(Slot slot, Long tradeId, TradeEventType type, Long actorId, String actorName,
+			String reason, Long expectedSeq) {
+		if (slot.stale) {
+			throw new IllegalStateException("거래 상태가 바뀌었습니다. 다시 시도해 주세요.");
+		}
+		TradeState current = slot.state;
+		if (!current.isParticipant(actorId)) {
+			throw new AccessDeniedException("거래 참여자만 상태 변경이 가능합니다.");
+		}
+		if (expectedSeq != null && expectedSeq != current.seq()) {
+			throw new IllegalStateException("거래 상태가 바뀌었습니다. 화면을 새로 고쳐 주세요.");
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		TradeState next = current.next(type, actorId, normalize(reason), now);
+		try {
+			eventStore.append(next, type, actorId, now);
+		} catch (TradeEventStore.SeqConflict | DataAccessException e) {
+			// 메모리 상태를 믿을 수 없음 → 버리고 다음 요청 때 다시 적재
+			slot.stale = true;
+			active.remove(tradeId, slot);
+			if (e instanceof TradeEventStore.SeqConflict) {
+				throw new IllegalStateException("이미 처리된 요청입니다.");
+			}
+			log.warn("거래 전이 저장 실패 - trade {} {}", tradeId, type, e);
+			throw new IllegalStateException("거래 상태 저장에 실패했습니다.");
+		}
+		slot.state = next;
+		if (next.isTerminal()) {
+			active.remove(tradeId, slot);
+			membershipCache.evictTrade(tradeId); // 종료된 거래는 캐시에서 제거
+		}
+
+		// 잠금 안에서 보내야 같은 거래의 신호가 seq 순서대로 나감 (브로커 채널에 넣기만 하므로 짧음)
+		TradeSignalDto signal = signal(next, type, actorId, actorName, now);
+		messagingTemplate.convertAndSend("/topic/chat." + next.roomId(), signal);
+		return signal;
+	}
+
+	// 오래 전이가 없던 거래를 메모리에서 뺌 (잠금 안에서 표시 → 기다리던 요청은 새 슬롯으로 다시 적재)
+	@Scheduled(fixedDelayString = "${tradezone.trade.evict-check-ms:60000}")
+	public void evictIdle() {
+		long cutoff = System.currentTimeMillis() - idleEvictMs;
+		active.forEach((tradeId, slot) -> {
+			synchronized (slot) {
+				if (slot.lastUsedAt <= cutoff) {
+					slot.evicted = true;
+					active.remove(tradeId, slot);
+				}
+			}
+		});
+	}
+
+	// 사유: 앞뒤 공백 제거, 빈 값은 null, 컬럼 길이(200)까지
+	private static String normalize(String reason) {
+		if (reason == null || reason.isBlank()) {
+			return null;
+		}
+		String r = reason.strip();
+		return r.length() > 200 ? r.substring(0, 200) : r;
+	}
+
+	// 진행 중이면 메모리에서, 아니면 DB 에서 1번 읽어 등록 (종료된 거래는 등록 X)
+	private Slot slot(Long tradeId) {
+		Slot slot = active.get(tradeId);
+		if (slot != null) {
+			return slot;
+		}
+		TradeSnapshot s = tradeRepository.findSnapshot(tradeId)
+				.orElseThrow(() -> new EntityNotFoundException("Trade not found: " + tradeId));
+		if (s.getRoomId() == null) {
+			throw new EntityNotFoundException("Trade chat room not linked: " + tradeId);
+		}
+		TradeState state = new TradeState(s.getTradeId(), s.getRoomId(), s.getBuyerId(), s.getSellerId(),
+				s.getStatus(), s.getPendingType(), s.getRequestedById(), s.getRequestedAt(), s.getCanceledReason(),
+				s.getEventSeq());
+		if (state.isTerminal()) {
+			throw new IllegalStateException("이미 종료된 거래입니다.");
+		}
+		Slot created = new Slot(state);
+		Slot existing = active.putIfAbsent(tradeId, created);
+		return existing != null ? existing : created;
+	}
+
+	// 상태 + 채팅방 안내 문구를 한 번에 (예전의 시스템 메시지/거래 신호 2건 → 1건)
+	private static TradeSignalDto signal(TradeState s, TradeEventType type, Long actorId, String actorName,
+			LocalDateTime now) {
+		boolean request = type == TradeEventType.REQUEST_COMPLETE || type == TradeEventType.REQUEST_CANCEL;
+		return TradeSignalDto.builder().type(TradeSignalDto.TRADE_EVENT).event(type).seq(s.seq())
+				.tradeId(s.tradeId()).roomId(s.roomId()).status(s.status()).pendingType(s.pendingType())
+				.requesterId(request ? actorId : null).requesterName(request ? actorName : null).actorId(actorId)
+				.actorName(actorName).reason(s.reason()).content(describe(type, actorName, s.reason())).at(now)
+				.build();
+	}
+
+	private static String describe(TradeEventType type, String actorName, String reason) {
+		return switch (type) {
+		case REQUEST_COMPLETE -> "[거래완료 요청] " + actorName + "님이 거래 완료를 요청했습니다.";
+		case APPROVE_COMPLETE -> "[거래완료 승인] " + actorName + "님이 거래 완료를 승인했습니다.";
+		case REJECT_COMPLETE -> "[거래완료 거절] " + actorName + "님이 거래 완료 요청을 거절했습니다.";
+		case REQUEST_CANCEL -> "[거래종료 요청] " + actorName + "님이 거래 종료(무산)를 요청했습니다."
+				+ (reason == null ? "" : " 사유: " + reason);
+		case APPROVE_CANCEL -> "[거래종료 승인] " + actorName + "님이 거래 종료(무산)를 승인했습니다.";
+		case REJECT_CANCEL -> "[거래종료 거절] " + actorName + "님이 거래 종료 요청을 거절했습니다.";
+		};
+	}
+}
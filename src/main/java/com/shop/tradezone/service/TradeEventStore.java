@@ -0,0 +1,69 @@
+package com.shop.tradezone.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.shop.tradezone.constant.TradeEventType;
+import com.shop.tradezone.constant.TradeStatus;
+import com.shop.tradezone.service.TradeEngine.TradeState;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 거래 전이 저장 - trade_event 1행 추가 + trade 행(현재 상태) 갱신을 한 트랜잭션으로 - 조회/버전 비교 없이 쓰기만, 순서는
+ * event_seq 로 확인 (seq 가 이미 있거나 trade 가 그 전 seq 가 아니면 다른 서버가 먼저 기록한 것 → SeqConflict)
+ */
+@Component
+@RequiredArgsConstructor
+public class TradeEventStore {
+
+	private static final String INSERT_EVENT = """
+			insert into trade_event (trade_id, seq, type, actor_id, reason, status, pending_type, created_at)
+			values (?, ?, ?, ?, ?, ?, ?, ?)
+			""";
+
+	// 완료/종료 시각은 그 전이에서만 기록 (나머지 전이는 null → 기존 값 유지)
+	private static final String UPDATE_TRADE = """
+			update trade
+			   set status = ?, pending_type = ?, requested_by_id = ?, requested_at = ?, canceled_reason = ?,
+			       completed_at = coalesce(?, completed_at), ended_at = coalesce(?, ended_at),
+			       last_action_by_id = ?, event_seq = ?, version = coalesce(version, 0) + 1
+			 where id = ? and event_seq = ?
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+
+	/** 같은 거래를 다른 서버가 먼저 바꿈 (이 서버의 메모리 상태가 낡음) */
+	public static class SeqConflict extends RuntimeException {
+
+		SeqConflict(Long tradeId, long seq) {
+			super("trade " + tradeId + " seq " + seq + " 이미 기록됨");
+		}
+	}
+
+	public void append(TradeState next, TradeEventType type, Long actorId, LocalDateTime at) {
+		Timestamp ts = Timestamp.valueOf(at);
+		transactionTemplate.executeWithoutResult(tx -> {
+			try {
+				jdbcTemplate.update(INSERT_EVENT, next.tradeId(), next.seq(), type.name(), actorId, next.reason(),
+						next.status().name(), next.pendingType().name(), ts);
+			} catch (DuplicateKeyException e) {
+				throw new SeqConflict(next.tradeId(), next.seq());
+			}
+			int updated = jdbcTemplate.update(UPDATE_TRADE, next.status().name(), next.pendingType().name(),
+					next.requestedById(), next.requestedAt() == null ? null : Timestamp.valueOf(next.requestedAt()),
+					next.reason(), next.status() == TradeStatus.COMPLETED ? ts : null,
+					next.status() == TradeStatus.ENDED ? ts : null, actorId, next.seq(), next.tradeId(),
+					next.seq() - 1);
+			if (updated == 0) {
+				throw new SeqConflict(next.tradeId(), next.seq()); // 롤백 → 추가한 이벤트도 취소
+			}
+		});
+	}
+}
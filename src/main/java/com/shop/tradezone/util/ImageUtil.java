@@ -0,0 +1,239 @@
+package com.shop.tradezone.util;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * 이미지 변환 유틸 - EXIF 방향 보정, 축소 디코딩(subsampling), 단계별 축소(품질 유지), 품질 지정 JPEG 인코딩 (JDK ImageIO 만 사용, WebP 인코더는 JDK 에
+ * 없으므로 progressive JPEG 로 대체)
+ */
+public final class ImageUtil {
+
+	private static final int ORIENTATION_TAG = 0x0112;
+
+	private ImageUtil() {
+	}
+
+	// JPEG 의 EXIF Orientation 값 (1~8, 없거나 JPEG 가 아니면 1)
+	public static int readExifOrientation(byte[] b) {
+		if (b == null || b.length < 4 || (b[0] & 0xFF) != 0xFF || (b[1] & 0xFF) != 0xD8) {
+			return 1;
+		}
+		int pos = 2;
+		while (pos + 4 <= b.length) {
+			if ((b[pos] & 0xFF) != 0xFF) {
+				return 1;
+			}
+			int marker = b[pos + 1] & 0xFF;
+			if (marker == 0xDA || marker == 0xD9) { // 이미지 데이터 시작 → 더 이상 메타데이터 없음
+				return 1;
+			}
+			int segmentLength = u16(b, pos + 2, false);
+			int segmentEnd = Math.min(b.length, pos + 2 + segmentLength);
+			if (marker == 0xE1 && pos + 10 <= segmentEnd && b[pos + 4] == 'E' && b[pos + 5] == 'x' && b[pos + 6] == 'i'
+					&& b[pos + 7] == 'f' && b[pos + 8] == 0 && b[pos + 9] == 0) {
+				return readTiffOrientation(b, pos + 10, segmentEnd);
+			}
+			pos += 2 + segmentLength;
+		}
+		return 1;
+	}
+
+	private static int readTiffOrientation(byte[] b, int start, int end) {
+		if (start + 8 > end) {
+			return 1;
+		}
+		boolean little = b[start] == 'I' && b[start + 1] == 'I';
+		if (!little && !(b[start] == 'M' && b[start + 1] == 'M')) {
+			return 1;
+		}
+		long ifdOffset = u32(b, start + 4, little);
+		if (ifdOffset < 8 || start + ifdOffset + 2 > end) {
+			return 1;
+		}
+		int ifd = start + (int) ifdOffset;
+		int count = u16(b, ifd, little);
+		for (int i = 0; i < count; i++) {
+			int entry = ifd + 2 + i * 12;
+			if (entry + 12 > end) {
+				return 1;
+			}
+			if (u16(b, entry, little) == ORIENTATION_TAG) {
+				int value = u16(b, entry + 8, little);
+				return value >= 1 && value <= 8 ? value : 1;
+			}
+		}
+		return 1;
+	}
+
+	private static int u16(byte[] b, int pos, boolean little) {
+		int b0 = b[pos] & 0xFF;
+		int b1 = b[pos + 1] & 0xFF;
+		return little ? (b1 << 8) | b0 : (b0 << 8) | b1;
+	}
+
+	private static long u32(byte[] b, int pos, boolean little) {
+		long hi = u16(b, little ? pos + 2 : pos, little);
+		long lo = u16(b, little ? pos : pos + 2, little);
+		return (hi << 16) | lo;
+	}
+
+	// 입력에 맞는 디코더 (setInput 까지) - 크기는 getWidth/getHeight(0) 으로 헤더만 읽어 확인 가능, 다 쓰면 dispose
+	public static ImageReader openReader(ImageInputStream input) {
+		Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+		if (readers == null || !readers.hasNext()) {
+			throw new IllegalArgumentException("이미지를 읽을 수 없습니다.");
+		}
+		ImageReader reader = readers.next();
+		reader.setInput(input, true, true);
+		return reader;
+	}
+
+	// 긴 변이 minSide 이상 남는 가장 큰 정수 배율 (1 = 원본 그대로, minSide <= 0 이면 1)
+	public static int subsampling(int longSide, int minSide) {
+		return minSide <= 0 ? 1 : Math.max(1, longSide / minSide);
+	}
+
+	// factor 배율로 읽었을 때의 픽셀 수 (ImageIO 는 가로/세로 각각 올림)
+	public static long decodedPixels(int width, int height, int factor) {
+		return (long) ((width + factor - 1) / factor) * ((height + factor - 1) / factor);
+	}
+
+	// 예상 힙(MB, 올림) → 1 ~ maxMb 로 자름 (예산보다 큰 한 장은 예산 전체를 잡고 혼자 처리)
+	public static int budgetMb(long pixels, int bytesPerPixel, int maxMb) {
+		long mb = (pixels * bytesPerPixel + (1 << 20) - 1) >> 20;
+		return (int) Math.max(1, Math.min(maxMb, mb));
+	}
+
+	// n 픽셀마다 1 픽셀만 읽는 디코딩 → 래스터가 처음부터 1/n² 크기 (원본 전체를 메모리에 올리지 않음)
+	public static BufferedImage readSubsampled(ImageReader reader, int factor) throws IOException {
+		ImageReadParam param = reader.getDefaultReadParam();
+		if (factor > 1) {
+			param.setSourceSubsampling(factor, factor, 0, 0);
+		}
+		return reader.read(0, param);
+	}
+
+	// 알파 채널/팔레트 이미지를 흰 배경 RGB 로 (JPEG 로 저장 가능하게)
+	public static BufferedImage toRgb(BufferedImage src) {
+		if (src.getType() == BufferedImage.TYPE_INT_RGB) {
+			return src;
+		}
+		BufferedImage rgb = new BufferedImage(src.getWidth(), src.getHeight(), BufferedImage.TYPE_INT_RGB);
+		Graphics2D g = rgb.createGraphics();
+		g.setColor(Color.WHITE);
+		g.fillRect(0, 0, src.getWidth(), src.getHeight());
+		g.drawImage(src, 0, 0, null);
+		g.dispose();
+		return rgb;
+	}
+
+	// EXIF 방향대로 회전/반전 (휴대폰 세로 사진이 눕는 문제)
+	public static BufferedImage applyOrientation(BufferedImage src, int orientation) {
+		int w = src.getWidth();
+		int h = src.getHeight();
+		AffineTransform t;
+		switch (orientation) {
+		case 2 -> t = new AffineTransform(-1, 0, 0, 1, w, 0); // 좌우 반전
+		case 3 -> t = new AffineTransform(-1, 0, 0, -1, w, h); // 180°
+		case 4 -> t = new AffineTransform(1, 0, 0, -1, 0, h); // 상하 반전
+		case 5 -> t = new AffineTransform(0, 1, 1, 0, 0, 0); // 대각 반전
+		case 6 -> t = new AffineTransform(0, 1, -1, 0, h, 0); // 시계 90°
+		case 7 -> t = new AffineTransform(0, -1, -1, 0, h, w); // 반대 대각 반전
+		case 8 -> t = new AffineTransform(0, -1, 1, 0, 0, w); // 반시계 90°
+		default -> {
+			return src;
+		}
+		}
+		boolean swap = orientation >= 5;
+		BufferedImage dst = new BufferedImage(swap ? h : w, swap ? w : h, BufferedImage.TYPE_INT_RGB);
+		Graphics2D g = dst.createGraphics();
+		g.drawImage(src, t, null);
+		g.dispose();
+		return dst;
+	}
+
+	// 긴 변이 maxSide 를 넘지 않게 축소 (maxSide <= 0 이면 그대로)
+	public static BufferedImage resizeToFit(BufferedImage src, int maxSide) {
+		int longSide = Math.max(src.getWidth(), src.getHeight());
+		if (maxSide <= 0 || longSide <= maxSide) {
+			return src;
+		}
+		return resizeToWidth(src, Math.max(1, (int) ((long) src.getWidth() * maxSide / longSide)));
+	}
+
+	// 가로 targetWidth 로 축소 (원본이 더 작으면 그대로) - 절반씩 여러 번 줄여 계단 현상 방지
+	public static BufferedImage resizeToWidth(BufferedImage src, int targetWidth) {
+		if (src.getWidth() <= targetWidth) {
+			return src;
+		}
+		BufferedImage current = src;
+		while (current.getWidth() / 2 >= targetWidth) {
+			current = scale(current, current.getWidth() / 2);
+		}
+		return current.getWidth() == targetWidth ? current : scale(current, targetWidth);
+	}
+
+	private static BufferedImage scale(BufferedImage src, int width) {
+		int height = Math.max(1, (int) Math.round(src.getHeight() * (width / (double) src.getWidth())));
+		BufferedImage dst = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D g = dst.createGraphics();
+		g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+		g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+		g.drawImage(src, 0, 0, width, height, null);
+		g.dispose();
+		return dst;
+	}
+
+	// 품질 지정 JPEG (progressive 면 큰 이미지가 흐릿하게 먼저 보임) - 인코딩 버퍼를 복사 없이 그대로 감싸서 반환 (S3 요청 본문으로 사용)
+	public static ByteBuffer encodeJpeg(BufferedImage image, float quality, boolean progressive) throws IOException {
+		Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+		if (!writers.hasNext()) {
+			throw new IOException("JPEG 인코더를 찾을 수 없습니다.");
+		}
+		ImageWriter writer = writers.next();
+		ImageWriteParam param = writer.getDefaultWriteParam();
+		param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+		param.setCompressionQuality(quality);
+		if (progressive) {
+			param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+		}
+
+		EncodeBuffer out = new EncodeBuffer();
+		try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+			writer.setOutput(ios);
+			writer.write(null, new IIOImage(toRgb(image), null, null), param);
+		} finally {
+			writer.dispose();
+		}
+		return out.asByteBuffer();
+	}
+
+	// toByteArray() 복사 없이 내부 배열을 그대로 넘기는 출력 버퍼
+	private static final class EncodeBuffer extends ByteArrayOutputStream {
+
+		EncodeBuffer() {
+			super(64 * 1024);
+		}
+
+		ByteBuffer asByteBuffer() {
+			return ByteBuffer.wrap(buf, 0, count);
+		}
+	}
+}
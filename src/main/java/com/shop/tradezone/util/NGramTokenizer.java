@@ -0,0 +1,50 @@
+package com.shop.tradezone.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색용 토크나이저 - 한글은 띄어쓰기/조사가 불규칙하므로 형태소 분석 대신 2-gram 으로 쪼갠다. (예: "아이폰케이스" →
+ * 아이, 이폰, 폰케, 케이, 이스) - 3글자 이상 단어는 원형도 함께 넣어 정확히 일치하는 단어가 더 높은 점수를 받게 한다.
+ */
+public final class NGramTokenizer {
+
+	private static final int GRAM = 2;
+
+	private NGramTokenizer() {
+	}
+
+	public static List<String> tokenize(String text) {
+		List<String> tokens = new ArrayList<>();
+		if (text == null || text.isBlank()) {
+			return tokens;
+		}
+
+		// 전각/반각, 호환 자모 등 정규화 + 소문자
+		String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase();
+
+		StringBuilder word = new StringBuilder();
+		for (int i = 0; i <= normalized.length(); i++) {
+			char c = i < normalized.length() ? normalized.charAt(i) : ' ';
+			if (Character.isLetterOrDigit(c)) {
+				word.append(c);
+			} else if (word.length() > 0) {
+				addWord(word.toString(), tokens);
+				word.setLength(0);
+			}
+		}
+		return tokens;
+	}
+
+	private static void addWord(String word, List<String> tokens) {
+		if (word.length() <= GRAM) {
+			tokens.add(word);
+			return;
+		}
+		for (int i = 0; i + GRAM <= word.length(); i++) {
+			tokens.add(word.substring(i, i + GRAM));
+		}
+		tokens.add(word);
+	}
+}
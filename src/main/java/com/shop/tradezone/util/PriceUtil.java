@@ -0,0 +1,31 @@
+package com.shop.tradezone.util;
+
+/**
+ * 가격 변환 유틸 - 폼에서는 "12,000" 같은 문자열로 받고, DB/정렬/범위검색은 원 단위 정수(long)로 다룬다.
+ */
+public final class PriceUtil {
+
+	private PriceUtil() {
+	}
+
+	// "12,000" → 12000 (숫자가 없거나 범위를 넘으면 null)
+	public static Long parse(String price) {
+		if (price == null) {
+			return null;
+		}
+		String digits = price.replaceAll("[^0-9]", "");
+		if (digits.isEmpty()) {
+			return null;
+		}
+		try {
+			return Long.parseLong(digits);
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	// 12000 → "12000" (수정 폼 표시용)
+	public static String toFormValue(Long price) {
+		return price != null ? String.valueOf(price) : null;
+	}
+}
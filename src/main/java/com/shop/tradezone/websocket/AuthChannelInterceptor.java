@@ -6,10 +6,12 @@ import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
+import com.shop.tradezone.service.MemberPrincipal;
+
 @Component
 public class AuthChannelInterceptor implements ChannelInterceptor {
 
@@ -20,15 +22,14 @@ public class AuthChannelInterceptor implements ChannelInterceptor {
 			return message;
 
 		if (StompCommand.CONNECT.equals(acc.getCommand())) {
-			// 세션 기반 인증: SecurityContext에 이미 로그인 정보가 있음
-			Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-
-			// 로그인 안 된 상태에서 소켓 연결을 막고 싶다면 여기서 검사
-			if (auth == null || !auth.isAuthenticated())
-				throw new IllegalStateException("Unauthenticated");
+			// 세션 기반 인증: 핸드셰이크 때 HTTP 세션의 로그인 정보가 user 로 들어와 있음
+			// (소켓 스레드에는 SecurityContextHolder 가 비어 있으므로 acc.getUser() 를 쓴다)
+			if (!(acc.getUser() instanceof Authentication auth) || !auth.isAuthenticated())
+				throw new AccessDeniedException("Unauthenticated");
 
-			if (auth != null) {
-				acc.setUser(auth); // 이후 @MessageMapping 메서드의 Principal/Authentication 로 들어감
+			// 이후 세션의 user → 이름이 회원 id 인 인증 정보 (/user/{memberId}/queue/.. 로 개인 알림 전송)
+			if (auth.getPrincipal() instanceof MemberPrincipal principal) {
+				acc.setUser(new MemberAuthentication(auth, principal));
 			}
 		}
 		return message;
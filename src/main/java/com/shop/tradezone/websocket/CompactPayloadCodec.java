@@ -0,0 +1,86 @@
+package com.shop.tradezone.websocket;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * 소켓 메시지 축약 인코딩 - 필드명 → 짧은 키 (KEYS, 없는 필드는 그대로), LocalDateTime 문자열 → epoch millis, null 필드 생략
+ * - 트리를 만들지 않고 토큰 단위로 복사 (메시지 1건 = 파싱 1번) - 키를 바꾸면 chat.html 의 WIRE_KEYS 도 같이 바꿀 것
+ */
+public final class CompactPayloadCodec {
+
+	static final Map<String, String> KEYS = Map.ofEntries(
+			Map.entry("id", "i"), Map.entry("roomId", "r"), Map.entry("senderId", "s"), Map.entry("content", "c"),
+			Map.entry("type", "t"), Map.entry("createdAt", "ca"), Map.entry("tradeId", "tr"),
+			Map.entry("status", "st"), Map.entry("pendingType", "pt"), Map.entry("requesterId", "qi"),
+			Map.entry("requesterName", "qn"), Map.entry("actorId", "ai"), Map.entry("actorName", "an"),
+			Map.entry("reason", "rs"), Map.entry("memberId", "m"), Map.entry("viewers", "v"),
+			Map.entry("event", "ev"), Map.entry("seq", "sq"));
+
+	// epoch millis 로 바꿀 시각 필드 (서버 시간대 기준 LocalDateTime)
+	private static final Set<String> TIME_FIELDS = Set.of("createdAt", "at", "lastMessageAt");
+
+	private static final JsonFactory FACTORY = new JsonFactory();
+
+	private CompactPayloadCodec() {
+	}
+
+	public static byte[] encode(byte[] json) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(json.length);
+		try (JsonParser p = FACTORY.createParser(json); JsonGenerator g = FACTORY.createGenerator(out)) {
+			String field = null; // 객체 안: 아직 쓰지 않은 필드명, 배열 안: null
+			JsonToken token;
+			while ((token = p.nextToken()) != null) {
+				switch (token) {
+				case FIELD_NAME -> field = p.currentName();
+				case VALUE_NULL -> {
+					if (field == null) {
+						g.writeNull(); // 배열 원소는 자리 유지
+					}
+					field = null;
+				}
+				case VALUE_STRING -> {
+					Long epoch = field != null && TIME_FIELDS.contains(field) ? epochMillis(p.getText()) : null;
+					writeField(g, field);
+					field = null;
+					if (epoch != null) {
+						g.writeNumber(epoch);
+					} else {
+						g.writeString(p.getText());
+					}
+				}
+				default -> {
+					writeField(g, field);
+					field = null;
+					g.copyCurrentEvent(p);
+				}
+				}
+			}
+		}
+		return out.toByteArray();
+	}
+
+	private static void writeField(JsonGenerator g, String field) throws IOException {
+		if (field != null) {
+			g.writeFieldName(KEYS.getOrDefault(field, field));
+		}
+	}
+
+	private static Long epochMillis(String text) {
+		try {
+			return LocalDateTime.parse(text).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+		} catch (DateTimeParseException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package com.shop.tradezone.websocket;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 축약 인코딩 세션의 /topic/chat.*, /topic/trade.* 메시지를 CompactPayloadCodec 으로 바꿔 보낸다 (clientOutboundChannel) -
+ * CONNECT 헤더 x-tz-wire: compact 로 세션별 선택, 나머지 세션은 기존 JSON 그대로 - simple 브로커는 구독자마다 같은
+ * payload 배열을 넘기므로 배열 기준으로 한 번만 변환 (WeakHashMap - byte[] 는 동일성 비교)
+ */
+@Slf4j
+@Component
+public class CompactWireInterceptor implements ChannelInterceptor {
+
+	public static final String WIRE_HEADER = "x-tz-wire";
+	public static final String COMPACT = "compact";
+
+	private static final byte[] NOT_JSON = new byte[0];
+
+	private final Set<String> compactSessions = ConcurrentHashMap.newKeySet();
+	private final Map<byte[], byte[]> encoded = Collections.synchronizedMap(new WeakHashMap<>());
+
+	public void connect(String sessionId, String wire) {
+		if (COMPACT.equalsIgnoreCase(wire)) {
+			compactSessions.add(sessionId);
+		}
+	}
+
+	public void disconnect(String sessionId) {
+		compactSessions.remove(sessionId);
+	}
+
+	@Override
+	public Message<?> preSend(Message<?> message, MessageChannel channel) {
+		MessageHeaders headers = message.getHeaders();
+		if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+				|| !(message.getPayload() instanceof byte[] payload)
+				|| !compactSessions.contains(SimpMessageHeaderAccessor.getSessionId(headers))
+				|| !isCompactTopic(SimpMessageHeaderAccessor.getDestination(headers))
+				|| !isJson(SimpMessageHeaderAccessor.getContentType(headers))) {
+			return message;
+		}
+		byte[] compact = encoded.computeIfAbsent(payload, CompactWireInterceptor::encode);
+		return compact == NOT_JSON ? message : MessageBuilder.createMessage(compact, headers);
+	}
+
+	private static byte[] encode(byte[] payload) {
+		try {
+			return CompactPayloadCodec.encode(payload);
+		} catch (IOException e) {
+			log.debug("축약 인코딩 실패 - 원본 전송", e);
+			return NOT_JSON; // 값이 키(payload)를 잡고 있으면 WeakHashMap 에서 안 빠지므로 표시값만 둔다
+		}
+	}
+
+	private static boolean isCompactTopic(String dest) {
+		return dest != null && (dest.startsWith("/topic/chat.") || dest.startsWith("/topic/trade."));
+	}
+
+	private static boolean isJson(MimeType contentType) {
+		return contentType != null && contentType.getSubtype().endsWith("json");
+	}
+}
@@ -0,0 +1,64 @@
+package com.shop.tradezone.websocket;
+
+import java.util.Collection;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import com.shop.tradezone.service.MemberPrincipal;
+
+/**
+ * 소켓 세션용 인증 정보 - 로그인 Authentication 을 그대로 감싸되 getName() 만 회원 id 로 - /user/{name}/.. 전송
+ * (convertAndSendToUser) 을 이메일 조회 없이 회원 id 로 할 수 있게
+ */
+public class MemberAuthentication implements Authentication {
+
+	private static final long serialVersionUID = 1L;
+
+	private final Authentication delegate;
+	private final Long memberId;
+
+	public MemberAuthentication(Authentication delegate, MemberPrincipal principal) {
+		this.delegate = delegate;
+		this.memberId = principal.getMemberId();
+	}
+
+	public Long getMemberId() {
+		return memberId;
+	}
+
+	@Override
+	public String getName() {
+		return String.valueOf(memberId);
+	}
+
+	@Override
+	public Collection<? extends GrantedAuthority> getAuthorities() {
+		return delegate.getAuthorities();
+	}
+
+	@Override
+	public Object getCredentials() {
+		return null;
+	}
+
+	@Override
+	public Object getDetails() {
+		return delegate.getDetails();
+	}
+
+	@Override
+	public Object getPrincipal() {
+		return delegate.getPrincipal();
+	}
+
+	@Override
+	public boolean isAuthenticated() {
+		return delegate.isAuthenticated();
+	}
+
+	@Override
+	public void setAuthenticated(boolean isAuthenticated) {
+		throw new IllegalArgumentException("소켓 세션 인증 정보는 변경할 수 없습니다.");
+	}
+}
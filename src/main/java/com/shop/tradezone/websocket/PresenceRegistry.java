@@ -0,0 +1,129 @@
+package com.shop.tradezone.websocket;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 접속/보기 현황 (메모리) - 세션 → (회원, 구독한 방, 화면에 띄운 방), 회원 → 세션들, 방 → 보고 있는 회원(탭 여러 개면 세션 수) -
+ * "보고 있음" = 구독 + 클라이언트가 보낸 가시성 신호(/app/chat.visible, 탭이 보이고 포커스가 있을 때 true) → 구독만 해 둔 백그라운드
+ * 탭은 보고 있는 것이 아님 - 단일 서버 전용: 상태는 이 서버에 붙은 세션만 알고 공유하지 않는다 (relay 모드로 여러 대를 띄우면 다른
+ * 서버에 붙은 상대는 항상 "안 보는 중" → 자동 읽음 대신 상대 클라이언트의 읽음 신호로 처리되고, 접속 표시는 서버마다 다를 수 있음)
+ */
+@Component
+public class PresenceRegistry {
+
+	private record SessionInfo(Long memberId, Map<String, Long> roomBySubscription, Set<Long> visibleRooms) {
+	}
+
+	private final Map<String, SessionInfo> sessions = new ConcurrentHashMap<>();
+	private final Map<Long, Set<String>> memberSessions = new ConcurrentHashMap<>();
+	private final Map<Long, Map<Long, Integer>> roomViewers = new ConcurrentHashMap<>();
+
+	public void connect(String sessionId, Long memberId) {
+		sessions.put(sessionId,
+				new SessionInfo(memberId, new ConcurrentHashMap<>(), ConcurrentHashMap.newKeySet()));
+		memberSessions.computeIfAbsent(memberId, id -> ConcurrentHashMap.newKeySet()).add(sessionId);
+	}
+
+	// 방 구독 (아직 보는 중 X - 가시성 신호가 와야 보는 중)
+	public void subscribe(String sessionId, String subscriptionId, Long roomId) {
+		SessionInfo session = sessions.get(sessionId);
+		if (session != null) {
+			session.roomBySubscription().putIfAbsent(subscriptionId, roomId);
+		}
+	}
+
+	// 구독 해제 → 이 회원이 방에서 완전히 나갔으면 그 방 id, 아니면 null
+	public Long unsubscribe(String sessionId, String subscriptionId) {
+		SessionInfo session = sessions.get(sessionId);
+		if (session == null) {
+			return null;
+		}
+		Long roomId = session.roomBySubscription().remove(subscriptionId);
+		if (roomId == null || session.roomBySubscription().containsValue(roomId)) {
+			return null;
+		}
+		return hide(session, roomId) ? roomId : null;
+	}
+
+	// 가시성 신호 (구독한 방만) → 이 회원의 보는 중 여부가 바뀌었으면 true
+	public boolean visibility(String sessionId, Long roomId, boolean visible) {
+		SessionInfo session = sessions.get(sessionId);
+		if (session == null || !session.roomBySubscription().containsValue(roomId)) {
+			return false;
+		}
+		if (visible) {
+			return session.visibleRooms().add(roomId) && addViewer(roomId, session.memberId());
+		}
+		return hide(session, roomId);
+	}
+
+	// 이 세션이 지금 방을 화면에 띄우고 있는지
+	public boolean isVisible(String sessionId, Long roomId) {
+		SessionInfo session = sessions.get(sessionId);
+		return session != null && session.visibleRooms().contains(roomId);
+	}
+
+	// 연결 종료 → 보던 사람이 바뀐 방 목록
+	public List<Long> disconnect(String sessionId) {
+		SessionInfo session = sessions.remove(sessionId);
+		if (session == null) {
+			return List.of();
+		}
+		memberSessions.computeIfPresent(session.memberId(), (id, set) -> {
+			set.remove(sessionId);
+			return set.isEmpty() ? null : set;
+		});
+		List<Long> changed = new ArrayList<>();
+		for (Long roomId : session.visibleRooms()) {
+			if (removeViewer(roomId, session.memberId())) {
+				changed.add(roomId);
+			}
+		}
+		return changed;
+	}
+
+	public boolean isOnline(Long memberId) {
+		return memberId != null && memberSessions.containsKey(memberId);
+	}
+
+	public boolean isViewing(Long roomId, Long memberId) {
+		Map<Long, Integer> viewers = roomViewers.get(roomId);
+		return viewers != null && memberId != null && viewers.containsKey(memberId);
+	}
+
+	public List<Long> viewers(Long roomId) {
+		Map<Long, Integer> viewers = roomViewers.get(roomId);
+		return viewers == null ? List.of() : List.copyOf(viewers.keySet());
+	}
+
+	private boolean hide(SessionInfo session, Long roomId) {
+		return session.visibleRooms().remove(roomId) && removeViewer(roomId, session.memberId());
+	}
+
+	// 방별 갱신은 compute 안에서만 (같은 방 동시 구독/해제 경쟁 방지)
+	private boolean addViewer(Long roomId, Long memberId) {
+		boolean[] added = { false };
+		roomViewers.compute(roomId, (id, viewers) -> {
+			Map<Long, Integer> v = viewers != null ? viewers : new ConcurrentHashMap<>();
+			added[0] = v.merge(memberId, 1, Integer::sum) == 1;
+			return v;
+		});
+		return added[0];
+	}
+
+	private boolean removeViewer(Long roomId, Long memberId) {
+		boolean[] removed = { false };
+		roomViewers.computeIfPresent(roomId, (id, v) -> {
+			Integer left = v.computeIfPresent(memberId, (m, count) -> count > 1 ? count - 1 : null);
+			removed[0] = left == null;
+			return v.isEmpty() ? null : v;
+		});
+		return removed[0];
+	}
+}
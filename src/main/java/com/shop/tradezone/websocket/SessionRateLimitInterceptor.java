@@ -0,0 +1,66 @@
+package com.shop.tradezone.websocket;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세션별 전송 제한 - 세션마다 1초에 max-messages-per-second 개까지만 SEND 를 받고 넘는 건 버린다 - 큐에 넣기 전(preSend,
+ * 소켓을 읽는 스레드)에 거르므로 많이 보내는 클라이언트가 공용 inbound 풀/큐를 차지하지 못함 - 세션이 끊기면(DISCONNECT) 정리
+ */
+@Slf4j
+@Component
+public class SessionRateLimitInterceptor implements ChannelInterceptor {
+
+	@Value("${tradezone.ws.inbound.max-messages-per-second:20}")
+	private int maxPerSecond;
+
+	private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+	// 1초 고정 창
+	private static class Window {
+		long startedAt;
+		int count;
+	}
+
+	@Override
+	public Message<?> preSend(Message<?> message, MessageChannel channel) {
+		SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+		String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+		if (sessionId == null) {
+			return message;
+		}
+		if (type == SimpMessageType.DISCONNECT) {
+			windows.remove(sessionId);
+			return message;
+		}
+		if (type != SimpMessageType.MESSAGE) { // CONNECT/SUBSCRIBE/하트비트는 제한 X
+			return message;
+		}
+
+		Window window = windows.computeIfAbsent(sessionId, id -> new Window());
+		synchronized (window) {
+			long now = System.currentTimeMillis();
+			if (now - window.startedAt >= 1000) {
+				window.startedAt = now;
+				window.count = 0;
+			}
+			if (++window.count > maxPerSecond) {
+				if (window.count == maxPerSecond + 1) {
+					log.debug("소켓 전송 제한 초과 - session={}", sessionId);
+				}
+				return null; // 버림 (다른 세션에는 영향 X)
+			}
+		}
+		return message;
+	}
+}
@@ -1,5 +1,32 @@
 package com.shop.tradezone.websocket;
 
-public class StompPrincipalArgumentResolver {
+import java.security.Principal;
 
+import org.springframework.core.MethodParameter;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.handler.invocation.HandlerMethodArgumentResolver;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+
+/**
+ * @MessageMapping 메서드의 @AuthenticationPrincipal 파라미터 처리 - 소켓 세션 user(Authentication) 의 principal
+ * (MemberPrincipal) 을 넣어준다, 타입이 다르면 null
+ */
+public class StompPrincipalArgumentResolver implements HandlerMethodArgumentResolver {
+
+	@Override
+	public boolean supportsParameter(MethodParameter parameter) {
+		return parameter.hasParameterAnnotation(AuthenticationPrincipal.class);
+	}
+
+	@Override
+	public Object resolveArgument(MethodParameter parameter, Message<?> message) {
+		Principal user = SimpMessageHeaderAccessor.getUser(message.getHeaders());
+		if (!(user instanceof Authentication auth)) {
+			return null;
+		}
+		Object principal = auth.getPrincipal();
+		return parameter.getParameterType().isInstance(principal) ? principal : null;
+	}
 }
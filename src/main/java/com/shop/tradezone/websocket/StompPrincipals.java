@@ -0,0 +1,21 @@
+package com.shop.tradezone.websocket;
+
+import java.security.Principal;
+
+import org.springframework.security.core.Authentication;
+
+import com.shop.tradezone.service.MemberPrincipal;
+
+/** 소켓 세션 user(핸드셰이크 시 세션의 Authentication) → 회원 id */
+public final class StompPrincipals {
+
+	private StompPrincipals() {
+	}
+
+	public static Long memberId(Principal user) {
+		if (user instanceof Authentication auth && auth.getPrincipal() instanceof MemberPrincipal mp) {
+			return mp.getMemberId();
+		}
+		return null;
+	}
+}
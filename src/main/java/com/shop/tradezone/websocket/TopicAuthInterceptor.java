@@ -8,8 +8,7 @@ import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Component;
 
-import com.shop.tradezone.entity.Member;
-import com.shop.tradezone.repository.TradeRepository;
+import com.shop.tradezone.service.ChatMembershipCache;
 
 import lombok.RequiredArgsConstructor;
 
@@ -17,7 +16,8 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class TopicAuthInterceptor implements ChannelInterceptor {
 
-    private final TradeRepository tradeRepository;
+    // 구독 권한은 메모리 캐시로 확인 (SUBSCRIBE 마다 COUNT 쿼리 X)
+    private final ChatMembershipCache membershipCache;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -26,20 +26,18 @@ public class TopicAuthInterceptor implements ChannelInterceptor {
         if (SimpMessageType.SUBSCRIBE.equals(acc.getMessageType())) {
             String dest = acc.getDestination(); // /topic/chat.{roomId} or /topic/trade.{tradeId}
 
-            Object principal = acc.getUser();
-            if (principal == null) throw new AccessDeniedException("Unauthenticated");
-            // 프로젝트 보안 컨벤션에 따라 Member 캐스팅 부분 조정 필요
-            Long uid = ((Member) principal).getId();
+            Long uid = StompPrincipals.memberId(acc.getUser());
+            if (uid == null) throw new AccessDeniedException("Unauthenticated");
 
             if (dest != null) {
                 if (dest.startsWith("/topic/chat.")) {
                     Long roomId = parseSuffixId(dest, "/topic/chat.");
-                    if (!tradeRepository.canAccessRoom(roomId, uid)) {
+                    if (!membershipCache.isRoomMember(roomId, uid)) {
                         throw new AccessDeniedException("not allowed");
                     }
                 } else if (dest.startsWith("/topic/trade.")) {
                     Long tradeId = parseSuffixId(dest, "/topic/trade.");
-                    if (!tradeRepository.canAccessTrade(tradeId, uid)) {
+                    if (!membershipCache.isTradeMember(tradeId, uid)) {
                         throw new AccessDeniedException("not allowed");
                     }
                 }
@@ -50,6 +48,10 @@ public class TopicAuthInterceptor implements ChannelInterceptor {
 
     private Long parseSuffixId(String dest, String prefix) {
         String s = dest.substring(prefix.length());
-        return Long.valueOf(s);
+        try {
+            return Long.valueOf(s);
+        } catch (NumberFormatException e) {
+            throw new AccessDeniedException("invalid destination");
+        }
     }
 }
@@ -1,5 +1,74 @@
 package com.shop.tradezone.websocket;
 
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import com.shop.tradezone.service.PresenceService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * STOMP 세션 이벤트 → 접속 현황 갱신 - CONNECT/DISCONNECT: 회원 온라인 여부, 축약 인코딩(x-tz-wire) 선택 - SUBSCRIBE /topic/chat.{roomId}: 방을 보고
+ * 있는 회원 (구독 권한은 TopicAuthInterceptor 를 통과한 뒤라 여기서는 기록만)
+ */
+@Component
+@RequiredArgsConstructor
 public class WebSocketEventListener {
 
+	private static final String CHAT_TOPIC = "/topic/chat.";
+
+	private final PresenceRegistry presenceRegistry;
+	private final PresenceService presenceService;
+	private final CompactWireInterceptor compactWire;
+
+	@EventListener
+	public void onConnect(SessionConnectEvent event) {
+		StompHeaderAccessor acc = StompHeaderAccessor.wrap(event.getMessage());
+		compactWire.connect(acc.getSessionId(), acc.getFirstNativeHeader(CompactWireInterceptor.WIRE_HEADER));
+	}
+
+	@EventListener
+	public void onConnected(SessionConnectedEvent event) {
+		Long memberId = StompPrincipals.memberId(event.getUser());
+		if (memberId != null) {
+			presenceRegistry.connect(StompHeaderAccessor.wrap(event.getMessage()).getSessionId(), memberId);
+		}
+	}
+
+	@EventListener
+	public void onSubscribe(SessionSubscribeEvent event) {
+		StompHeaderAccessor acc = StompHeaderAccessor.wrap(event.getMessage());
+		String dest = acc.getDestination();
+		if (dest == null || !dest.startsWith(CHAT_TOPIC)) {
+			return;
+		}
+		Long roomId;
+		try {
+			roomId = Long.valueOf(dest.substring(CHAT_TOPIC.length()));
+		} catch (NumberFormatException e) {
+			return;
+		}
+		presenceRegistry.subscribe(acc.getSessionId(), acc.getSubscriptionId(), roomId); // 보는 중은 가시성 신호로
+	}
+
+	@EventListener
+	public void onUnsubscribe(SessionUnsubscribeEvent event) {
+		StompHeaderAccessor acc = StompHeaderAccessor.wrap(event.getMessage());
+		Long roomId = presenceRegistry.unsubscribe(acc.getSessionId(), acc.getSubscriptionId());
+		if (roomId != null) {
+			presenceService.roomChanged(roomId);
+		}
+	}
+
+	@EventListener
+	public void onDisconnect(SessionDisconnectEvent event) {
+		compactWire.disconnect(event.getSessionId());
+		presenceRegistry.disconnect(event.getSessionId()).forEach(presenceService::roomChanged);
+	}
 }
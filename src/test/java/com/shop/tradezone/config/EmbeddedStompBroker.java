@@ -0,0 +1,40 @@
+package com.shop.tradezone.config;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+import org.apache.activemq.artemis.core.config.Configuration;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+
+// 테스트용 STOMP 브로커 (Artemis 내장, 메모리 전용) - relay 모드 서버들이 붙을 외부 브로커 대역
+class EmbeddedStompBroker implements AutoCloseable {
+
+	private final EmbeddedActiveMQ server = new EmbeddedActiveMQ();
+	private final int port;
+
+	EmbeddedStompBroker() throws Exception {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			port = socket.getLocalPort();
+		}
+		// /topic/.. 은 브로드캐스트(multicast), /queue/.. 는 1:1(anycast)
+		Configuration config = new ConfigurationImpl().setPersistenceEnabled(false).setSecurityEnabled(false)
+				.setJMXManagementEnabled(false).addAcceptorConfiguration("stomp", "tcp://127.0.0.1:" + port
+						+ "?protocols=STOMP;multicastPrefix=/topic/;anycastPrefix=/queue/");
+		server.setConfiguration(config);
+		server.start();
+	}
+
+	int port() {
+		return port;
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			server.stop();
+		} catch (Exception e) {
+			throw new IOException(e);
+		}
+	}
+}
@@ -0,0 +1,155 @@
+package com.shop.tradezone.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.websocket.servlet.WebSocketServletAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.AbstractBrokerMessageHandler;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+// relay 모드: A 서버에서 보낸 메시지가 같은 브로커에 붙은 B 서버의 구독자에게 도착해야 한다
+class StompBrokerRelayTest {
+
+	private static EmbeddedStompBroker broker;
+	private static ConfigurableApplicationContext nodeA;
+	private static ConfigurableApplicationContext nodeB;
+
+	// 브로커 설정만 올리는 최소 서버 (DB/보안 없이 StompBrokerConfigurer 만 검증)
+	@Configuration
+	@ImportAutoConfiguration({ ServletWebServerFactoryAutoConfiguration.class,
+			DispatcherServletAutoConfiguration.class, WebSocketServletAutoConfiguration.class,
+			JacksonAutoConfiguration.class })
+	@EnableWebSocketMessageBroker
+	@Import(StompBrokerConfigurer.class)
+	static class Node implements WebSocketMessageBrokerConfigurer {
+
+		private final StompBrokerConfigurer brokerConfigurer;
+
+		Node(StompBrokerConfigurer brokerConfigurer) {
+			this.brokerConfigurer = brokerConfigurer;
+		}
+
+		@Override
+		public void registerStompEndpoints(StompEndpointRegistry registry) {
+			registry.addEndpoint("/ws-stomp");
+		}
+
+		@Override
+		public void configureMessageBroker(MessageBrokerRegistry registry) {
+			brokerConfigurer.configure(registry, heartbeatScheduler());
+			registry.setApplicationDestinationPrefixes("/app");
+		}
+
+		@Bean
+		public TaskScheduler heartbeatScheduler() {
+			ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+			scheduler.initialize();
+			return scheduler;
+		}
+	}
+
+	@BeforeAll
+	static void startNodes() throws Exception {
+		broker = new EmbeddedStompBroker();
+		nodeA = startNode();
+		nodeB = startNode();
+	}
+
+	@AfterAll
+	static void stopNodes() throws Exception {
+		for (ConfigurableApplicationContext node : new ConfigurableApplicationContext[] { nodeA, nodeB }) {
+			if (node != null) {
+				node.close();
+			}
+		}
+		if (broker != null) {
+			broker.close();
+		}
+	}
+
+	private static ConfigurableApplicationContext startNode() {
+		return new SpringApplicationBuilder(Node.class).properties("server.port=0",
+				"tradezone.ws.broker.mode=relay", "tradezone.ws.broker.hosts=127.0.0.1:" + broker.port()).run();
+	}
+
+	@Test
+	void messageSentOnNodeAReachesSubscriberOnNodeB() throws Exception {
+		awaitBrokerAvailable(nodeA);
+		awaitBrokerAvailable(nodeB);
+
+		WebSocketStompClient client = new WebSocketStompClient(new StandardWebSocketClient());
+		client.setMessageConverter(new StringMessageConverter());
+		client.setDefaultHeartbeat(new long[] { 0, 0 }); // 클라이언트 하트비트 스케줄러 없이
+		int portB = nodeB.getEnvironment().getProperty("local.server.port", Integer.class);
+		StompSession session = client.connectAsync("ws://127.0.0.1:" + portB + "/ws-stomp",
+				new StompSessionHandlerAdapter() {
+				}).get(10, TimeUnit.SECONDS);
+
+		try {
+			// 브로커가 구독을 받았다는 RECEIPT 후에 전송
+			BlockingQueue<String> received = new LinkedBlockingQueue<>();
+			CountDownLatch subscribed = new CountDownLatch(1);
+			session.setAutoReceipt(true);
+			session.subscribe("/topic/chat.1", new StompFrameHandler() {
+				@Override
+				public Type getPayloadType(StompHeaders headers) {
+					return String.class;
+				}
+
+				@Override
+				public void handleFrame(StompHeaders headers, Object payload) {
+					received.add((String) payload);
+				}
+			}).addReceiptTask(subscribed::countDown);
+			assertTrue(subscribed.await(10, TimeUnit.SECONDS), "구독 RECEIPT 없음");
+
+			nodeA.getBean(SimpMessagingTemplate.class).convertAndSend("/topic/chat.1", "hello from A");
+
+			assertEquals("hello from A", received.poll(10, TimeUnit.SECONDS));
+		} finally {
+			session.disconnect();
+			client.stop();
+		}
+	}
+
+	private static void awaitBrokerAvailable(ConfigurableApplicationContext node) throws InterruptedException {
+		AbstractBrokerMessageHandler relay = node.getBean("stompBrokerRelayMessageHandler",
+				AbstractBrokerMessageHandler.class);
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (!relay.isBrokerAvailable() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(100);
+		}
+		assertTrue(relay.isBrokerAvailable(), "브로커 연결 실패");
+	}
+}
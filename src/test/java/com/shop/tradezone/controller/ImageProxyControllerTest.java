@@ -0,0 +1,74 @@
+package com.shop.tradezone.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.shop.tradezone.service.ImageDelivery;
+import com.shop.tradezone.service.ImageDiskCache;
+import com.shop.tradezone.service.LocalImageStorage;
+
+// 이미지 프록시: 디스크 저장소 + 디스크 캐시로 캐시 헤더/304/캐시 적중 확인 (S3 없이)
+class ImageProxyControllerTest {
+
+	private static final String THUMBNAIL = "images/thumbnail_test.jpg";
+	private static final byte[] BYTES = { (byte) 0xFF, (byte) 0xD8, 1, 2, 3, 4, (byte) 0xFF, (byte) 0xD9 };
+
+	@TempDir
+	Path dir;
+
+	private LocalImageStorage storage;
+	private MockMvc mvc;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		storage = new LocalImageStorage(dir.resolve("storage").toString());
+		ImageDiskCache cache = new ImageDiskCache(dir.resolve("cache").toString(), 1,
+				new String[] { "images/thumbnail_" });
+		mvc = MockMvcBuilders.standaloneSetup(new ImageProxyController(storage, cache)).build();
+		storage.uploadAsync(ByteBuffer.wrap(BYTES), THUMBNAIL, "image/jpeg").join();
+	}
+
+	@Test
+	void servesWithImmutableCacheHeaders() throws Exception {
+		mvc.perform(get("/img/" + THUMBNAIL)).andExpect(status().isOk()).andExpect(content().bytes(BYTES))
+				.andExpect(content().contentType("image/jpeg"))
+				.andExpect(header().string(HttpHeaders.ETAG, ImageDelivery.etagOf(THUMBNAIL)))
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"));
+	}
+
+	@Test
+	void revalidationReturns304() throws Exception {
+		mvc.perform(get("/img/" + THUMBNAIL).header(HttpHeaders.IF_NONE_MATCH, ImageDelivery.etagOf(THUMBNAIL)))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string(HttpHeaders.ETAG, ImageDelivery.etagOf(THUMBNAIL)));
+	}
+
+	@Test
+	void thumbnailServedFromDiskCacheAfterFirstHit() throws Exception {
+		mvc.perform(get("/img/" + THUMBNAIL)).andExpect(status().isOk());
+		assertEquals(List.of(), storage.deleteKeys(List.of(THUMBNAIL)));
+
+		mvc.perform(get("/img/" + THUMBNAIL)).andExpect(status().isOk()).andExpect(content().bytes(BYTES));
+	}
+
+	@Test
+	void rejectsKeysOutsideImages() throws Exception {
+		mvc.perform(get("/img/secret/config.yml")).andExpect(status().isNotFound());
+		mvc.perform(get("/img/images/missing.jpg")).andExpect(status().isNotFound());
+	}
+}
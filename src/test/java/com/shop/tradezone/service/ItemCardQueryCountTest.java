@@ -0,0 +1,121 @@
+package com.shop.tradezone.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.shop.tradezone.constant.ItemSellStatus;
+import com.shop.tradezone.constant.Role;
+import com.shop.tradezone.dto.CursorSliceDto;
+import com.shop.tradezone.dto.ItemCardDto;
+import com.shop.tradezone.entity.Category;
+import com.shop.tradezone.entity.Item;
+import com.shop.tradezone.entity.ItemImg;
+import com.shop.tradezone.entity.Member;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+// 상품 카드 목록은 상품 수와 관계없이 쿼리 2번(목록 + 썸네일 일괄)으로 끝나야 한다
+// JPA 만 올리고 내장 H2(MySQL 모드) 사용 - 운영 DB/S3 설정 없이 실행
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:item-card;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.generate_statistics=true" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ItemService.class)
+class ItemCardQueryCountTest {
+
+	private static final int ITEM_COUNT = 8;
+
+	@Autowired
+	private ItemService itemService;
+
+	@Autowired
+	private EntityManager em;
+
+	@Autowired
+	private EntityManagerFactory emf;
+
+	// 카드 목록과 무관한 의존성 (S3/스케줄러 등)
+	@MockitoBean
+	private CategoryService categoryService;
+
+	@MockitoBean
+	private ItemImgService itemImgService;
+
+	@MockitoBean
+	private StorageGarbageCollector storageGc;
+
+	@MockitoBean
+	private ItemViewCounter itemViewCounter;
+
+	@MockitoBean
+	private ImageDelivery imageDelivery;
+
+	private Member seller;
+
+	@BeforeEach
+	void setUp() {
+		when(imageDelivery.url(any())).thenAnswer(inv -> inv.getArgument(0));
+
+		seller = Member.create("card-test-" + System.nanoTime() + "@test.com", "pw", "card" + System.nanoTime(),
+				"010-0000-0000", Role.USER);
+		em.persist(seller);
+
+		Category parent = new Category();
+		parent.setName("테스트구단");
+		em.persist(parent);
+		Category child = new Category();
+		child.setName("유니폼");
+		child.setParent(parent);
+		em.persist(child);
+
+		for (int i = 0; i < ITEM_COUNT; i++) {
+			Item item = Item.builder().name("상품" + i).description("설명").price(10000L + i).seller(seller)
+					.categoryId(child).status(ItemSellStatus.SELL).created(LocalDateTime.now().minusMinutes(i)).build();
+			em.persist(item);
+			for (int j = 0; j < 2; j++) {
+				em.persist(ItemImg.builder().imgName("img" + j).imgUrl("https://img/original_" + i + "_" + j)
+						.thumbnailUrl("https://img/thumbnail_" + i + "_" + j).item(item).build());
+			}
+		}
+		em.flush();
+		em.clear();
+	}
+
+	@Test
+	void sellerItemsLoadInTwoStatements() {
+		Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+		stats.clear();
+
+		CursorSliceDto<ItemCardDto> cards = itemService.getItemsByMember(seller.getId(), null, ITEM_COUNT);
+
+		assertEquals(ITEM_COUNT, cards.content().size());
+		cards.content().forEach(card -> assertNotNull(card.getThumbnailUrl()));
+		assertEquals(2, stats.getPrepareStatementCount());
+	}
+
+	@Test
+	void mainItemsLoadInTwoStatements() {
+		Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+		stats.clear();
+
+		itemService.getMainItems(null, 12);
+
+		assertEquals(2, stats.getPrepareStatementCount());
+	}
+}
@@ -0,0 +1,201 @@
+package com.shop.tradezone.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.shop.tradezone.constant.TradeEventType;
+import com.shop.tradezone.constant.TradePendingType;
+import com.shop.tradezone.constant.TradeStatus;
+import com.shop.tradezone.repository.TradeRepository;
+import com.shop.tradezone.repository.TradeSnapshot;
+import com.shop.tradezone.service.TradeEngine.TradeState;
+
+// 거래 엔진: 동시에 눌린 전이는 하나만 성공, 기록되는 seq 는 1씩 증가, 오래 안 쓴 거래는 메모리에서 빠짐 (DB 없이)
+class TradeEngineTest {
+
+	private static final long TRADE = 99L;
+	private static final long ROOM = 42L;
+	private static final long BUYER = 7L;
+	private static final long SELLER = 8L;
+	private static final long START_SEQ = 5L;
+
+	private final TradeRepository tradeRepository = mock(TradeRepository.class);
+	private final TradeEventStore eventStore = mock(TradeEventStore.class);
+	private final List<TradeState> appended = Collections.synchronizedList(new ArrayList<>());
+
+	private TradeEngine engine;
+	private ExecutorService pool;
+
+	@BeforeEach
+	void setUp() {
+		engine = new TradeEngine(tradeRepository, eventStore, mock(ChatMembershipCache.class),
+				mock(SimpMessagingTemplate.class));
+		ReflectionTestUtils.setField(engine, "idleEvictMs", 600_000L);
+		doAnswer(inv -> appended.add(inv.getArgument(0))).when(eventStore).append(any(), any(), any(), any());
+		pool = Executors.newFixedThreadPool(8);
+	}
+
+	@AfterEach
+	void tearDown() {
+		pool.shutdownNow();
+	}
+
+	@Test
+	void concurrentApproveAndRejectHaveOneWinner() throws Exception {
+		snapshot(TradeStatus.COMPLETE_REQUESTED, TradePendingType.COMPLETE, BUYER);
+
+		List<Callable<Object>> tasks = new ArrayList<>();
+		for (int i = 0; i < 16; i++) {
+			TradeEventType type = i % 2 == 0 ? TradeEventType.APPROVE_COMPLETE : TradeEventType.REJECT_COMPLETE;
+			tasks.add(() -> engine.apply(TRADE, type, SELLER, "seller", null, START_SEQ));
+		}
+		int succeeded = 0;
+		for (Future<Object> f : runTogether(tasks)) {
+			try {
+				f.get();
+				succeeded++;
+			} catch (Exception e) {
+				assertEquals(IllegalStateException.class, e.getCause().getClass());
+			}
+		}
+
+		assertEquals(1, succeeded);
+		assertEquals(1, appended.size());
+		assertEquals(START_SEQ + 1, appended.get(0).seq());
+	}
+
+	@Test
+	void appendedSeqIsMonotonic() throws Exception {
+		snapshot(TradeStatus.PENDING, TradePendingType.NONE, null);
+
+		// 구매자는 완료 요청, 판매자는 거절을 반복 → 성공한 전이만 기록
+		List<Callable<Object>> tasks = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			boolean request = i % 2 == 0;
+			tasks.add(() -> {
+				try {
+					return request ? engine.apply(TRADE, TradeEventType.REQUEST_COMPLETE, BUYER, "buyer", null, null)
+							: engine.apply(TRADE, TradeEventType.REJECT_COMPLETE, SELLER, "seller", null, null);
+				} catch (IllegalStateException e) {
+					return null; // 상태가 맞지 않아 거절된 요청
+				}
+			});
+		}
+		for (Future<Object> f : runTogether(tasks)) {
+			f.get();
+		}
+
+		List<Long> seqs = appended.stream().map(TradeState::seq).toList();
+		assertEquals(LongStream.rangeClosed(START_SEQ + 1, START_SEQ + seqs.size()).boxed().toList(), seqs);
+	}
+
+	@Test
+	void idleTradeIsReloadedAfterEviction() {
+		snapshot(TradeStatus.PENDING, TradePendingType.NONE, null);
+		engine.apply(TRADE, TradeEventType.REQUEST_COMPLETE, BUYER, "buyer", null, null);
+
+		ReflectionTestUtils.setField(engine, "idleEvictMs", 0L);
+		engine.evictIdle();
+		engine.apply(TRADE, TradeEventType.APPROVE_COMPLETE, SELLER, "seller", null, null); // 다시 적재한 상태로 전이
+
+		verify(tradeRepository, times(2)).findSnapshot(TRADE);
+		assertEquals(List.of(START_SEQ + 1, START_SEQ + 2), appended.stream().map(TradeState::seq).toList());
+		assertThrows(IllegalStateException.class, // 완료된 거래는 다시 적재하지 않음
+				() -> engine.apply(TRADE, TradeEventType.REQUEST_CANCEL, BUYER, "buyer", null, null));
+	}
+
+	// 모든 작업을 동시에 출발
+	private List<Future<Object>> runTogether(List<Callable<Object>> tasks) throws InterruptedException {
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Object>> futures = new ArrayList<>();
+		for (Callable<Object> task : tasks) {
+			futures.add(pool.submit(() -> {
+				start.await();
+				return task.call();
+			}));
+		}
+		start.countDown();
+		pool.shutdown();
+		pool.awaitTermination(10, TimeUnit.SECONDS);
+		return futures;
+	}
+
+	// DB 의 trade 행: 처음 상태 → 이후엔 마지막으로 기록된 전이 (엔진이 다시 적재할 때 보는 값)
+	private void snapshot(TradeStatus status, TradePendingType pendingType, Long requestedById) {
+		TradeState initial = new TradeState(TRADE, ROOM, BUYER, SELLER, status, pendingType, requestedById,
+				requestedById == null ? null : LocalDateTime.now(), null, START_SEQ);
+		when(tradeRepository.findSnapshot(TRADE)).thenAnswer(inv -> {
+			synchronized (appended) {
+				return Optional.of(new Row(appended.isEmpty() ? initial : appended.get(appended.size() - 1)));
+			}
+		});
+	}
+
+	private record Row(TradeState s) implements TradeSnapshot {
+
+		public Long getTradeId() {
+			return s.tradeId();
+		}
+
+		public Long getRoomId() {
+			return s.roomId();
+		}
+
+		public Long getBuyerId() {
+			return s.buyerId();
+		}
+
+		public Long getSellerId() {
+			return s.sellerId();
+		}
+
+		public TradeStatus getStatus() {
+			return s.status();
+		}
+
+		public TradePendingType getPendingType() {
+			return s.pendingType();
+		}
+
+		public Long getRequestedById() {
+			return s.requestedById();
+		}
+
+		public LocalDateTime getRequestedAt() {
+			return s.requestedAt();
+		}
+
+		public String getCanceledReason() {
+			return s.reason();
+		}
+
+		public long getEventSeq() {
+			return s.seq();
+		}
+	}
+}
@@ -0,0 +1,59 @@
+package com.shop.tradezone.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.junit.jupiter.api.Test;
+
+// 축소 디코딩 배율 + 디코딩 메모리 예산 계산
+class ImageUtilTest {
+
+	@Test
+	void subsamplingKeepsLongSideAtLeastMinSide() {
+		assertEquals(2, ImageUtil.subsampling(4032, 2000)); // 12MP → 2016
+		assertEquals(1, ImageUtil.subsampling(3999, 2000)); // 1/2 이면 2000 미만 → 원본 그대로
+		assertEquals(4, ImageUtil.subsampling(8000, 2000));
+		assertEquals(1, ImageUtil.subsampling(1000, 2000));
+		assertEquals(1, ImageUtil.subsampling(8000, 0)); // 제한 없음
+	}
+
+	@Test
+	void decodedPixelsMatchesSubsampledRead() throws IOException {
+		byte[] jpeg = jpeg(301, 201);
+		for (int factor = 1; factor <= 3; factor++) {
+			try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(jpeg))) {
+				ImageReader reader = ImageUtil.openReader(input);
+				try {
+					BufferedImage decoded = ImageUtil.readSubsampled(reader, factor);
+					assertEquals((long) decoded.getWidth() * decoded.getHeight(),
+							ImageUtil.decodedPixels(301, 201, factor), "factor " + factor);
+				} finally {
+					reader.dispose();
+				}
+			}
+		}
+	}
+
+	@Test
+	void budgetRoundsUpAndClampsToBudget() {
+		// 12MP 사진 1/2 디코딩: 2016x1512 x 13B = 37.8MB → 38
+		assertEquals(38, ImageUtil.budgetMb(ImageUtil.decodedPixels(4032, 3024, 2), 13, 256));
+		assertEquals(1, ImageUtil.budgetMb(ImageUtil.decodedPixels(200, 200, 1), 13, 256)); // 최소 1
+		assertEquals(1, ImageUtil.budgetMb((1 << 20) / 13, 13, 256)); // 딱 1MB 이하
+		assertEquals(256, ImageUtil.budgetMb(ImageUtil.decodedPixels(7000, 7000, 1), 13, 256)); // 예산 전체
+	}
+
+	private static byte[] jpeg(int width, int height) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "jpg", out);
+		return out.toByteArray();
+	}
+}
@@ -0,0 +1,77 @@
+package com.shop.tradezone.websocket;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.zip.Deflater;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.tradezone.constant.TradePendingType;
+import com.shop.tradezone.constant.TradeStatus;
+import com.shop.tradezone.dto.ChatMessageDto;
+import com.shop.tradezone.dto.TradeSignalDto;
+
+// 기존 컨버터 대비 바이트/시간 비교 출력 (검증 X, 측정용) - ./gradlew benchmark 로만 실행, 기본 test 에서는 제외
+@Tag("benchmark")
+class CompactPayloadCodecBenchmark {
+
+	private static final int ROUNDS = 20_000;
+
+	private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+
+	private final LocalDateTime now = LocalDateTime.of(2026, 10, 18, 14, 30, 15, 123_000_000);
+
+	private final ChatMessageDto chat = ChatMessageDto.builder().id(123456L).roomId(42L).senderId(7L)
+			.content("네 내일 저녁 7시에 역 앞에서 뵐게요").type("TEXT").createdAt(now).build();
+
+	private final TradeSignalDto signal = TradeSignalDto.builder().type("REQUEST_COMPLETE").tradeId(99L).roomId(42L)
+			.status(TradeStatus.COMPLETE_REQUESTED).pendingType(TradePendingType.COMPLETE).requesterId(7L)
+			.requesterName("seller01").actorId(7L).actorName("seller01").at(now).build();
+
+	@Test
+	void compareWithDefaultConverter() throws Exception {
+		for (Object payload : new Object[] { chat, signal }) {
+			byte[] json = mapper.writeValueAsBytes(payload);
+			byte[] compact = CompactPayloadCodec.encode(json);
+
+			long jsonNanos = time(() -> mapper.writeValueAsBytes(payload));
+			long compactNanos = time(() -> CompactPayloadCodec.encode(mapper.writeValueAsBytes(payload)));
+
+			System.out.printf("%s: json %dB (deflate %dB, %dns) → compact %dB (deflate %dB, %dns)%n",
+					payload.getClass().getSimpleName(), json.length, deflated(json), jsonNanos / ROUNDS,
+					compact.length, deflated(compact), compactNanos / ROUNDS);
+		}
+	}
+
+	private interface Work {
+		void run() throws Exception;
+	}
+
+	private static long time(Work work) throws Exception {
+		for (int i = 0; i < ROUNDS; i++) {
+			work.run(); // 워밍업
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < ROUNDS; i++) {
+			work.run();
+		}
+		return System.nanoTime() - start;
+	}
+
+	// permessage-deflate 적용 후 크기 근사 (메시지마다 sync flush, 컨텍스트 공유 없음)
+	private static int deflated(byte[] data) {
+		Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+		deflater.setInput(data);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buf = new byte[512];
+		int n;
+		while ((n = deflater.deflate(buf, 0, buf.length, Deflater.SYNC_FLUSH)) > 0) {
+			out.write(buf, 0, n);
+		}
+		deflater.end();
+		return out.size();
+	}
+}
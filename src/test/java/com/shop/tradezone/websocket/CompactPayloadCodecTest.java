@@ -0,0 +1,94 @@
+package com.shop.tradezone.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.shop.tradezone.constant.TradePendingType;
+import com.shop.tradezone.constant.TradeStatus;
+import com.shop.tradezone.dto.ChatMessageDto;
+import com.shop.tradezone.dto.ChatPresenceDto;
+import com.shop.tradezone.dto.TradeSignalDto;
+
+// 축약 인코딩: 같은 내용을 더 적은 바이트로, 되돌리면 같은 내용 (바이트/시간 비교는 CompactPayloadCodecBenchmark)
+class CompactPayloadCodecTest {
+
+	private static final Set<String> TIME_FIELDS = Set.of("createdAt", "at", "lastMessageAt");
+
+	// 소켓 메시지 컨버터(MappingJackson2MessageConverter)와 같은 설정 - 날짜는 ISO 문자열
+	private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+
+	private final LocalDateTime now = LocalDateTime.of(2026, 10, 18, 14, 30, 15, 123_000_000);
+
+	private final ChatMessageDto chat = ChatMessageDto.builder().id(123456L).roomId(42L).senderId(7L)
+			.content("네 내일 저녁 7시에 역 앞에서 뵐게요").type("TEXT").createdAt(now).build();
+
+	private final TradeSignalDto signal = TradeSignalDto.builder().type("REQUEST_COMPLETE").tradeId(99L).roomId(42L)
+			.status(TradeStatus.COMPLETE_REQUESTED).pendingType(TradePendingType.COMPLETE).requesterId(7L)
+			.requesterName("seller01").actorId(7L).actorName("seller01").at(now).build();
+
+	@Test
+	void shortensKeysAndTimestamps() throws Exception {
+		JsonNode node = mapper.readTree(CompactPayloadCodec.encode(mapper.writeValueAsBytes(chat)));
+
+		assertEquals(123456L, node.get("i").asLong());
+		assertEquals("네 내일 저녁 7시에 역 앞에서 뵐게요", node.get("c").asText());
+		assertEquals(now.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), node.get("ca").asLong());
+		assertFalse(node.has("content"));
+	}
+
+	@Test
+	void dropsNullFieldsButKeepsArrays() throws Exception {
+		ChatPresenceDto presence = ChatPresenceDto.builder().type("PRESENCE").roomId(42L).viewers(List.of(7L, 8L))
+				.build();
+		JsonNode node = mapper.readTree(CompactPayloadCodec.encode(mapper.writeValueAsBytes(presence)));
+
+		assertFalse(node.has("m")); // memberId = null
+		assertEquals(2, node.get("v").size());
+		assertEquals("PRESENCE", node.get("t").asText());
+	}
+
+	// 받는 쪽(chat.html expand)처럼 되돌리면 원래 JSON 과 같아야 함 (null 필드만 빠짐)
+	@Test
+	void roundTripsToOriginalPayload() throws Exception {
+		for (Object payload : new Object[] { chat, signal }) {
+			byte[] json = mapper.writeValueAsBytes(payload);
+			byte[] compact = CompactPayloadCodec.encode(json);
+
+			ObjectNode expected = (ObjectNode) mapper.readTree(json);
+			expected.properties().removeIf(e -> e.getValue().isNull());
+			assertEquals(expected, expand((ObjectNode) mapper.readTree(compact)));
+			assertTrue(compact.length * 5 < json.length * 4, "20% 이상 줄어야 함");
+		}
+	}
+
+	private ObjectNode expand(ObjectNode compact) {
+		Map<String, String> fields = new HashMap<>();
+		CompactPayloadCodec.KEYS.forEach((field, key) -> fields.put(key, field));
+		ObjectNode out = mapper.createObjectNode();
+		compact.properties().forEach(e -> {
+			String field = fields.getOrDefault(e.getKey(), e.getKey());
+			JsonNode value = e.getValue();
+			if (TIME_FIELDS.contains(field) && value.isNumber()) {
+				value = mapper.valueToTree(
+						LocalDateTime.ofInstant(Instant.ofEpochMilli(value.asLong()), ZoneId.systemDefault()));
+			}
+			out.set(field, value);
+		});
+		return out;
+	}
+}